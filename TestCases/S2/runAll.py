@@ -5,6 +5,7 @@
 """
 此脚本自动测试当前目录下所有 *.decaf 程序，输出到 output 目录下，
 并与 result 目录下的标准答案比较。
+如果存在同名的 *.args 文件，其中的内容作为额外的命令行参数。
 
 请注意我们在判分时会有更多的测试用例。
 """
@@ -29,8 +30,12 @@ def main():
         bname,ext = os.path.splitext(name)
         if ext != '.decaf':
             continue
+        # Extra options for this test case, if any
+        args = []
+        if os.path.exists(bname + '.args'):
+            args = read_txt_file(bname + '.args').split()
         # Run the test case, redirecting stdout/stderr to output/bname.result
-        subprocess.call(['java', '-jar', decaf_jar, '-l', '1', name],
+        subprocess.call(['java', '-jar', decaf_jar, '-l', '1'] + args + [name],
                 stdout=open(os.path.join('output', bname + '.result'), 'w'),
                 stderr=subprocess.STDOUT)
         # Check the result
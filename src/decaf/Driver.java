@@ -1,18 +1,39 @@
 package decaf;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import decaf.tree.Tree;
+import decaf.error.BudgetExceededError;
+import decaf.error.BudgetExceededException;
 import decaf.error.DecafError;
+import decaf.error.DiagnosticSink;
+import decaf.error.ErrorLimitException;
+import decaf.error.SortedSink;
+import decaf.error.StreamingSink;
 import decaf.frontend.Lexer;
+import decaf.frontend.ParseProfiler;
 import decaf.frontend.Parser;
+import decaf.jfr.CheckPointEvent;
+import decaf.jfr.PhaseEvent;
+import decaf.scope.LookupStats;
 import decaf.scope.ScopeStack;
 import decaf.typecheck.BuildSym;
+import decaf.typecheck.ClassCache;
+import decaf.typecheck.ClassPipeline;
+import decaf.typecheck.Hotspots;
+import decaf.typecheck.Incremental;
+import decaf.typecheck.QueryEngine;
+import decaf.typecheck.ResolveSlots;
 import decaf.typecheck.TypeCheck;
+import decaf.type.Type;
+import decaf.type.TypeTable;
+import decaf.utils.Budget;
 import decaf.utils.IndentPrintWriter;
 
 public final class Driver {
@@ -21,18 +42,78 @@ public final class Driver {
 
 	private Option option;
 
-	private List<DecafError> errors;
+	private DiagnosticSink errors;
+
+	/**
+	 * 并行的任务已放入各自的缓冲区、尚未交给issueError的错误个数
+	 */
+	private final AtomicInteger buffered = new AtomicInteger();
 
 	private ScopeStack table;
 
+	private TypeTable typeTable;
+
 	private Lexer lexer;
 
 	private Parser parser;
 
+	private Budget budget;
+
+	/**
+	 * 逐个类分析（-l 1 -stream）时源程序的全部内容，第二遍语法分析从这里读入
+	 */
+	private byte[] source;
+
+	/**
+	 * -time时各阶段所用的时间
+	 */
+	private StringBuilder timing;
+
+	private long lap;
+
+	/**
+	 * 源文件名，标准输入为"<stdin>"，只用于事件
+	 */
+	private String fileName;
+
+	/**
+	 * -parseprof时语法分析的统计，否则为null
+	 */
+	private ParseProfiler parseProfiler;
+
+	/**
+	 * -lookupprof时名字解析的统计，否则为null
+	 */
+	private LookupStats lookupStats;
+
+	/**
+	 * -hotspots时逐个方法的统计，否则为null
+	 */
+	private Hotspots hotspots;
+
+	/**
+	 * -memstats时每个阶段结束时的统计，否则为null
+	 */
+	private List<MemStats> memStats;
+
+	/**
+	 * 语法分析得到的语法树，-memstats从这里开始统计
+	 */
+	private Tree.TopLevel tree;
+
+	/**
+	 * 从上一阶段结束开始的JFR事件
+	 */
+	private PhaseEvent phaseEvent;
+
 	public ScopeStack getTable() {
 		return table;
 	}
 
+	public TypeTable getTypeTable() {
+		return typeTable;
+	}
+
 	public static Driver getDriver() {
 		return driver;
 	}
@@ -41,8 +122,61 @@ public final class Driver {
 		return option;
 	}
 
+	/**
+	 * @return 本次编译的预算，可由其它线程调用cancel()取消编译
+	 */
+	public Budget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @return -hotspots时的统计，否则为null
+	 */
+	public Hotspots getHotspots() {
+		return hotspots;
+	}
+
+	public boolean hasErrors() {
+		return errors.getCount() > 0;
+	}
+
+	/**
+	 * @throws ErrorLimitException
+	 *             错误个数达到-maxerr给出的上限时，中止当前阶段
+	 */
 	public void issueError(DecafError error) {
-		errors.add(error);
+		errors.report(error);
+		if (errors.getCount() >= option.getMaxErrors()) {
+			throw new ErrorLimitException(option.getMaxErrors());
+		}
+	}
+
+	/**
+	 * 并行的任务把一个错误放入自己的缓冲区时调用，可以从多个线程同时调用
+	 * 
+	 * @throws ErrorLimitException
+	 *             已报告的与缓冲中的错误合计达到-maxerr给出的上限时，中止该任务
+	 */
+	public void countBuffered() {
+		if (errors.getCount() + buffered.incrementAndGet() >= option
+				.getMaxErrors()) {
+			throw new ErrorLimitException(option.getMaxErrors());
+		}
+	}
+
+	/**
+	 * 按程序顺序交出并行的任务缓冲的错误
+	 */
+	public void issueBuffered(DecafError error) {
+		buffered.decrementAndGet();
+		issueError(error);
+	}
+
+	/**
+	 * @return 已报告的与缓冲中的错误合计已达到-maxerr给出的上限，并行的任务不必再开始
+	 */
+	public boolean isErrorLimitReached() {
+		return errors.getCount() + buffered.get() >= option.getMaxErrors();
 	}
 
 	// Only allow construction by Driver.main
@@ -50,60 +184,309 @@ public final class Driver {
 	}
 
 	/**
-	 * 如果有错误，输出错误并退出
+	 * -time时记下从上一阶段结束到现在的时间，-memstats时统计内存占用。
+	 * 统计所用的时间不计入下一阶段
 	 */
-	private void checkPoint() {
-		if (errors.size() > 0) {
-			Collections.sort(errors, new Comparator<DecafError>() {
+	private void phase(String name) {
+		phaseEvent.end();
+		if (phaseEvent.shouldCommit()) {
+			phaseEvent.file = fileName;
+			phaseEvent.phase = name;
+			phaseEvent.errors = errors.getCount();
+			phaseEvent.commit();
+		}
+		if (timing != null) {
+			timing.append(timing.length() == 0 ? "time: " : ", ");
+			timing.append(String.format("%s %.3f ms", name,
+					(System.nanoTime() - lap) / 1e6));
+		}
+		if (memStats != null) {
+			memStats.add(MemStats.snapshot(name, tree, typeTable, parser
+					.getValueStack()));
+		}
+		lap = System.nanoTime();
+		phaseEvent = new PhaseEvent();
+		phaseEvent.begin();
+	}
 
-				@Override
-				public int compare(DecafError o1, DecafError o2) {
-					return o1.getLocation().compareTo(o2.getLocation());
-				}
+	/**
+	 * 中止编译：输出已发现的错误与中止的原因
+	 */
+	private void abort(String reason) {
+		errors.report(new BudgetExceededError(reason));
+		checkPoint();
+	}
 
-			});
-			for (DecafError error : errors) {
-				option.getErr().println(error);
-			}
-			System.exit(1);
+	/**
+	 * 如果有错误，输出错误并返回false
+	 */
+	private boolean checkPoint() {
+		CheckPointEvent event = new CheckPointEvent();
+		event.begin();
+		int count = errors.getCount();
+		if (count > 0) {
+			errors.flush();
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.file = fileName;
+			event.errors = count;
+			event.commit();
 		}
+		return count == 0;
 	}
 
-	private void init() {
-		lexer = new Lexer(option.getInput());
+	private void init(InputStream input) throws IOException {
+		if (option.getLevel() == Option.Level.LEVEL1 && option.isStreamed()
+				&& !option.isFused() && option.getTypeAt() == null) {
+			source = readAll(input);
+			input = new ByteArrayInputStream(source);
+		}
+		lexer = new Lexer(input);
 		parser = new Parser();
 		lexer.setParser(parser);
 		parser.setLexer(lexer);
-		errors = new ArrayList<DecafError>();
+		budget = new Budget(option.getTimeoutMillis(), option.getMaxNodes(),
+				option.getMaxDepth());
+		parser.setBudget(budget);
+		if (option.isErrorStreamed()) {
+			errors = new StreamingSink(option.getErr(), option.getErrorFormat());
+		} else {
+			errors = new SortedSink(option.getErr(), option.getErrorFormat(),
+					option.getShownErrors());
+		}
 		table = new ScopeStack();
+		typeTable = new TypeTable();
+		if (option.isTimed()) {
+			timing = new StringBuilder();
+			lap = System.nanoTime();
+		}
+		if (option.isParseProfiled()) {
+			parseProfiler = new ParseProfiler();
+			parser.setProfiler(parseProfiler);
+		}
+		if (option.getHotspots() > 0) {
+			hotspots = new Hotspots();
+		}
+		if (option.isLookupProfiled()) {
+			lookupStats = new LookupStats();
+		}
+		LookupStats.setActive(lookupStats);
+		if (option.isMemStats()) {
+			memStats = new ArrayList<MemStats>();
+		}
+		tree = null;
+		phaseEvent = new PhaseEvent();
+		phaseEvent.begin();
 	}
 
-	private void compile() {
+	private static byte[] readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		int n;
+		while ((n = input.read(buf)) != -1) {
+			out.write(buf, 0, n);
+		}
+		input.close();
+		return out.toByteArray();
+	}
+
+	/**
+	 * @return 编译过程中没有错误时返回true
+	 */
+	private boolean compile() {
+		if (source != null) {
+			return compileByClass();
+		}
 
+		boolean streamed = option.getLevel() == Option.Level.LEVEL0
+				&& option.isStreamed();
+		if (streamed) {
+			parser.setStream(new IndentPrintWriter(option.getOutput(), 4));
+		}
 		Tree.TopLevel tree = parser.parseFile();
-		checkPoint();
+		this.tree = tree;
+		phase("parse");
+		if (!checkPoint()) {
+			return false;
+		}
 		if (option.getLevel() == Option.Level.LEVEL0) {
-			IndentPrintWriter pw = new IndentPrintWriter(option.getOutput(), 4);
-			tree.printTo(pw);
-			pw.close();
-			return;
+			if (!streamed) {
+				IndentPrintWriter pw = new IndentPrintWriter(option
+						.getOutput(), 4);
+				tree.printTo(pw);
+				pw.flush();
+			}
+			return true;
 		}
-		BuildSym.buildSymbol(tree);
-		checkPoint();
-		TypeCheck.checkType(tree);
-		checkPoint();
+		if (option.getTypeAt() != null) {
+			return typeAt(tree, option.getTypeAt());
+		}
+		if (option.isFused()) {
+			BuildSym declarer = BuildSym.declareSignatures(tree);
+			phase("declarations");
+			TypeCheck.checkFused(tree, declarer, errors.getCount() == 0);
+			phase("bodies");
+			if (!checkPoint()) {
+				return false;
+			}
+		} else {
+			BuildSym.buildSymbol(tree);
+			phase("symbols");
+			if (!checkPoint()) {
+				return false;
+			}
+			TypeCheck.checkType(tree);
+			phase("types");
+			if (!checkPoint()) {
+				return false;
+			}
+		}
+		ResolveSlots.resolve(tree);
 		if (option.getLevel() == Option.Level.LEVEL1) {
+			if (option.getExportFormat() != null) {
+				option.getExportFormat().create(option.getOutput())
+						.exportGlobal(tree.globalScope);
+				return true;
+			}
 			IndentPrintWriter pw = new IndentPrintWriter(option.getOutput(), 4);
-			tree.globalScope.printTo(pw);
-			pw.close();
-			return;
+			tree.globalScope.printTo(pw, option.getThreads());
+			pw.flush();
+			return true;
 		}
+		return true;
 	}
 
-	public static void main(String[] args) throws IOException {
+	/**
+	 * -l 1 -stream：第一遍语法分析丢弃方法体，只建立声明；第二遍逐个类建立局部作用域、
+	 * 检查类型并输出，参见ClassPipeline。第二遍的归约不计入-maxnodes，
+	 * 但仍检查时间与取消
+	 */
+	private boolean compileByClass() {
+		parser.setClassListener(ClassPipeline.SIGNATURES);
+		Tree.TopLevel tree = parser.parseFile();
+		this.tree = tree;
+		phase("parse");
+		if (!checkPoint()) {
+			return false;
+		}
+		BuildSym.declareSignatures(tree);
+		phase("declarations");
+		ClassPipeline pipeline = new ClassPipeline(tree,
+				new IndentPrintWriter(option.getOutput(), 4),
+				option.getExportFormat() == null ? null : option
+						.getExportFormat().create(option.getOutput()));
+		lexer = new Lexer(new ByteArrayInputStream(source));
+		parser = new Parser();
+		lexer.setParser(parser);
+		parser.setLexer(lexer);
+		parser.setTimeBudget(budget);
+		parser.setClassListener(pipeline);
+		if (parseProfiler != null) {
+			parser.setProfiler(parseProfiler);
+		}
+		parser.parseFile();
+		pipeline.finish();
+		phase("bodies");
+		return checkPoint();
+	}
+
+	/**
+	 * 只分析loc处的表达式所依赖的类与方法，输出它的类型，并报告所在类的成员声明
+	 * 与所在方法中的错误
+	 */
+	private boolean typeAt(Tree.TopLevel tree, Location loc) {
+		QueryEngine engine = new QueryEngine(tree);
+		for (DecafError error : engine.programDiagnostics()) {
+			issueError(error);
+		}
+		if (!checkPoint()) {
+			return false;
+		}
+		Tree.Expr expr = engine.exprAt(loc);
+		if (expr == null) {
+			option.getOutput().println(loc + " -> no expression");
+			option.getOutput().flush();
+			return true;
+		}
+		Type type = engine.typeOf(expr);
+		Tree.ClassDef classDef = engine.classAt(loc);
+		for (DecafError error : engine.memberDiagnostics(classDef.symbol)) {
+			issueError(error);
+		}
+		for (DecafError error : engine.diagnosticsFor(engine.methodAt(loc))) {
+			issueError(error);
+		}
+		option.getOutput().println(loc + " -> "
+				+ (type == null ? "unknown" : type.toString()));
+		option.getOutput().flush();
+		return checkPoint();
+	}
+
+	/**
+	 * 编译一个源文件，name为null时编译标准输入
+	 */
+	private static boolean compile(Option option, String name)
+			throws IOException {
 		driver = new Driver();
-		driver.option = new Option(args);
-		driver.init();
-		driver.compile();
+		driver.option = option;
+		driver.fileName = name == null ? "<stdin>" : name;
+		driver.init(option.openInput(name));
+		boolean succeeded;
+		try {
+			succeeded = driver.compile();
+		} catch (ErrorLimitException e) {
+			driver.checkPoint();
+			option.getErr().println(option.getErrorFormat().note(
+					"compilation stopped after " + option.getMaxErrors()
+							+ " errors"));
+			succeeded = false;
+		} catch (BudgetExceededException e) {
+			driver.abort(e.getMessage());
+			succeeded = false;
+		}
+		// 输出在每个文件结束时整块写出，保持与错误信息的先后次序
+		option.getOutput().flush();
+		if (driver.timing != null) {
+			option.getErr().println(driver.timing);
+		}
+		if (driver.parseProfiler != null) {
+			driver.parseProfiler.report(option.getErr());
+		}
+		if (driver.hotspots != null) {
+			driver.hotspots.report(option.getErr(), option.getHotspots());
+		}
+		if (driver.lookupStats != null) {
+			driver.lookupStats.report(option.getErr());
+		}
+		if (driver.memStats != null) {
+			for (MemStats stats : driver.memStats) {
+				stats.report(option.getErr());
+			}
+		}
+		driver.tree = null;
+		return succeeded;
+	}
+
+	public static void main(String[] args) throws IOException {
+		Option option = new Option(args);
+		boolean succeeded = true;
+		if (option.getSrcFileNames().isEmpty()) {
+			succeeded = compile(option, null);
+		} else {
+			for (String name : option.getSrcFileNames()) {
+				succeeded &= compile(option, name);
+				if (option.isIncremental()) {
+					Incremental.getInstance().report(option.getErr());
+				}
+			}
+		}
+		option.getOutput().close();
+		if (option.isCacheEnabled()) {
+			ClassCache.getInstance().report(option.getErr());
+		}
+		if (!succeeded) {
+			System.exit(1);
+		}
 	}
 }
@@ -29,6 +29,14 @@ public class Location implements Comparable<Location> {
 		column = col;
 	}
 
+	public int getLine() {
+		return line;
+	}
+
+	public int getColumn() {
+		return column;
+	}
+
 	/**
 	 * 转换成(x,y)形式的字符串
 	 */
@@ -0,0 +1,513 @@
+package decaf;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import decaf.frontend.SemValue;
+import decaf.scope.ClassScope;
+import decaf.scope.FormalScope;
+import decaf.scope.GlobalScope;
+import decaf.scope.LocalScope;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Symbol;
+import decaf.tree.Tree;
+import decaf.tree.TreeScanner;
+import decaf.type.ArrayType;
+import decaf.type.BaseType;
+import decaf.type.Type;
+import decaf.type.TypeTable;
+
+/**
+ * 编译器数据结构的内存占用（-memstats）<br>
+ * 每个阶段结束后按类别计数：用TreeScanner遍历语法树，统计各种结点与它们的位置、
+ * 标识符、字面量和列表；从全局作用域出发依次遍历类、成员、形式参数与局部作用域，
+ * 统计符号、作用域与符号表；类型按基本类型、类类型、它们已建立的数组类型与函数类型表
+ * 统计；语义值按值栈中不为null的位置统计。<br>
+ * 每个类的大小是按其字段算出的常量（64位JVM开启压缩指针：对象头12字节，引用4字节，
+ * 对齐到8字节），集合与符号表按元素个数估计。不识别共享的对象，如多个结点共用的位置
+ * 各计一次；符号的名字与语法树共用字符串，只在语法树中计算。因此只是估计
+ */
+public final class MemStats {
+
+	private static final String[] CATEGORIES = { "ast", "location",
+			"semvalue", "symbol", "scope", "type", "string", "literal",
+			"collection", "array" };
+
+	private static final Comparator<Row> BY_CATEGORY_THEN_SIZE = new Comparator<Row>() {
+
+		@Override
+		public int compare(Row o1, Row o2) {
+			if (o1.order != o2.order) {
+				return o1.order - o2.order;
+			}
+			return Long.compare(o2.bytes, o1.bytes);
+		}
+
+	};
+
+	private static final int ARRAY_HEADER = 16;
+
+	private static final int REFERENCE = 4;
+
+	private static final int LOCATION = 24;
+
+	private static final int SEM_VALUE = 88;
+
+	private static final int CLASS_SYMBOL = 64;
+
+	private static final int FUNCTION = 48;
+
+	private static final int VARIABLE = 40;
+
+	private static final int GLOBAL_SCOPE = 16;
+
+	private static final int CLASS_SCOPE = 40;
+
+	private static final int FORMAL_SCOPE = 32;
+
+	private static final int LOCAL_SCOPE = 24;
+
+	private static final int SYMBOL_MAP = 32;
+
+	private static final int BASE_TYPE = 24;
+
+	private static final int CLASS_TYPE = 32;
+
+	private static final int ARRAY_TYPE = 24;
+
+	private static final int FUNC_TYPE = 24;
+
+	private static final int INTEGER = 16;
+
+	private static final int DOUBLE = 24;
+
+	/**
+	 * 各种语法树结点的大小，没有列出的按DEFAULT_NODE
+	 */
+	private static final Map<java.lang.Class<?>, Integer> NODE_SIZES = new HashMap<java.lang.Class<?>, Integer>();
+
+	private static final int DEFAULT_NODE = 40;
+
+	static {
+		NODE_SIZES.put(Tree.TopLevel.class, 40);
+		NODE_SIZES.put(Tree.ClassDef.class, 40);
+		NODE_SIZES.put(Tree.MethodDef.class, 48);
+		NODE_SIZES.put(Tree.VarDef.class, 40);
+		NODE_SIZES.put(Tree.Skip.class, 24);
+		NODE_SIZES.put(Tree.Block.class, 32);
+		NODE_SIZES.put(Tree.WhileLoop.class, 32);
+		NODE_SIZES.put(Tree.RepeatLoop.class, 32);
+		NODE_SIZES.put(Tree.ForLoop.class, 40);
+		NODE_SIZES.put(Tree.If.class, 40);
+		NODE_SIZES.put(Tree.Exec.class, 32);
+		NODE_SIZES.put(Tree.Break.class, 24);
+		NODE_SIZES.put(Tree.Print.class, 32);
+		NODE_SIZES.put(Tree.Return.class, 32);
+		NODE_SIZES.put(Tree.NewClass.class, 40);
+		NODE_SIZES.put(Tree.NewArray.class, 40);
+		NODE_SIZES.put(Tree.Assign.class, 32);
+		NODE_SIZES.put(Tree.Unary.class, 40);
+		NODE_SIZES.put(Tree.Binary.class, 40);
+		NODE_SIZES.put(Tree.CallExpr.class, 48);
+		NODE_SIZES.put(Tree.ReadIntExpr.class, 32);
+		NODE_SIZES.put(Tree.ReadLineExpr.class, 32);
+		NODE_SIZES.put(Tree.ThisExpr.class, 32);
+		NODE_SIZES.put(Tree.TypeCast.class, 48);
+		NODE_SIZES.put(Tree.TypeTest.class, 48);
+		NODE_SIZES.put(Tree.Indexed.class, 48);
+		NODE_SIZES.put(Tree.Ident.class, 56);
+		NODE_SIZES.put(Tree.Literal.class, 40);
+		NODE_SIZES.put(Tree.Null.class, 32);
+		NODE_SIZES.put(Tree.TypeIdent.class, 32);
+		NODE_SIZES.put(Tree.TypeClass.class, 32);
+		NODE_SIZES.put(Tree.TypeArray.class, 32);
+	}
+
+	private final String phase;
+
+	private final Map<String, Row> rows = new HashMap<String, Row>();
+
+	/**
+	 * 同一种结点总是属于同一行，避免每个结点都取类名
+	 */
+	private final Map<java.lang.Class<?>, Row> nodeRows = new HashMap<java.lang.Class<?>, Row>();
+
+	private long objects;
+
+	private long bytes;
+
+	private long nanos;
+
+	private MemStats(String phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * @param phase
+	 *            刚结束的阶段，只用于输出
+	 * @param tree
+	 *            语法树，没有时为null
+	 * @param typeTable
+	 *            函数类型表，没有时为null
+	 * @param valueStack
+	 *            语法分析器的值栈
+	 */
+	public static MemStats snapshot(String phase, Tree.TopLevel tree,
+			TypeTable typeTable, SemValue[] valueStack) {
+		MemStats stats = new MemStats(phase);
+		long start = System.nanoTime();
+		if (tree != null) {
+			stats.new Counter().scan(tree);
+			if (tree.globalScope != null) {
+				stats.countScopes(tree.globalScope);
+			}
+		}
+		stats.countTypes(typeTable);
+		stats.countValueStack(valueStack);
+		stats.nanos = System.nanoTime() - start;
+		return stats;
+	}
+
+	public void report(PrintStream out) {
+		out.printf("memory after %s: %d objects, %d KB estimated "
+				+ "(count %.3f ms)%n", phase, objects, bytes / 1024, nanos / 1e6);
+		List<Row> sorted = new ArrayList<Row>(rows.values());
+		Collections.sort(sorted, BY_CATEGORY_THEN_SIZE);
+		out.printf("    %-10s %-24s %10s %12s%n", "category", "kind", "count",
+				"bytes");
+		for (int i = 0; i < sorted.size(); i++) {
+			Row r = sorted.get(i);
+			out.printf("    %-10s %-24s %10d %12d%n", r.category, r.kind,
+					r.count, r.bytes);
+			if (i + 1 == sorted.size() || sorted.get(i + 1).order != r.order) {
+				long count = 0;
+				long total = 0;
+				for (Row s : sorted) {
+					if (s.order == r.order) {
+						count += s.count;
+						total += s.bytes;
+					}
+				}
+				out.printf("    %-10s %-24s %10d %12d%n", r.category, "(total)",
+						count, total);
+			}
+		}
+	}
+
+	private void countScopes(GlobalScope global) {
+		count("scope", "global", GLOBAL_SCOPE + symbolMapSize(global.size()));
+		for (Symbol symbol : global) {
+			Class c = (Class) symbol;
+			count("symbol", "Class", CLASS_SYMBOL);
+			if (c.getType() != null) {
+				count("type", "ClassType", CLASS_TYPE);
+				countArrayTypes(c.getType());
+			}
+			ClassScope scope = c.getAssociatedScope();
+			count("scope", "class", CLASS_SCOPE + symbolMapSize(scope.size()));
+			if (scope.getMembers() != null) {
+				count("collection", "HashMap", mapSize(scope.getMembers().size()));
+			}
+			if (scope.getVirtualTable() != null) {
+				count("collection", "ArrayList", listSize(scope
+						.getVirtualTable().size()));
+			}
+			for (Symbol member : scope) {
+				if (member.isFunction()) {
+					count("symbol", "Function", FUNCTION);
+					countFormal(((Function) member).getAssociatedScope());
+				} else {
+					count("symbol", "Variable", VARIABLE);
+				}
+			}
+		}
+	}
+
+	private void countFormal(FormalScope scope) {
+		count("scope", "formal", FORMAL_SCOPE + symbolMapSize(scope.size()));
+		countVariables(scope.size());
+		if (scope.getBodyScope() != null) {
+			countLocal(scope.getBodyScope());
+		}
+	}
+
+	private void countLocal(LocalScope scope) {
+		List<LocalScope> children = scope.getChildren();
+		count("scope", "local", LOCAL_SCOPE + symbolMapSize(scope.size())
+				+ (children.isEmpty() ? 0 : listSize(children.size())));
+		countVariables(scope.size());
+		for (LocalScope child : children) {
+			countLocal(child);
+		}
+	}
+
+	private void countVariables(int n) {
+		for (int i = 0; i < n; i++) {
+			count("symbol", "Variable", VARIABLE);
+		}
+	}
+
+	private void countTypes(TypeTable typeTable) {
+		for (BaseType t : new BaseType[] { BaseType.INT, BaseType.DOUBLE,
+				BaseType.BOOL, BaseType.NULL, BaseType.ERROR, BaseType.STRING,
+				BaseType.VOID }) {
+			count("type", "BaseType", BASE_TYPE);
+			countArrayTypes(t);
+		}
+		if (typeTable != null) {
+			// 每个函数类型另有表中的一项与一个签名对象
+			for (int i = 0; i < typeTable.size(); i++) {
+				count("type", "FuncType", FUNC_TYPE);
+			}
+			count("collection", "ConcurrentHashMap", mapSize(typeTable.size())
+					+ 24L * typeTable.size());
+		}
+	}
+
+	private void countArrayTypes(Type t) {
+		for (ArrayType a = t.getArrayType(); a != null; a = a.getArrayType()) {
+			count("type", "ArrayType", ARRAY_TYPE);
+		}
+	}
+
+	/**
+	 * 值栈中已弹出的位置仍引用着原来的语义值，直到被覆盖
+	 */
+	private void countValueStack(SemValue[] valueStack) {
+		count("array", "SemValue[]", align(ARRAY_HEADER + (long) REFERENCE
+				* valueStack.length));
+		for (SemValue v : valueStack) {
+			if (v != null) {
+				count("semvalue", "SemValue", SEM_VALUE);
+			}
+		}
+	}
+
+	private void count(String category, String kind, long size) {
+		String key = category + ':' + kind;
+		Row r = rows.get(key);
+		if (r == null) {
+			r = new Row(category, kind);
+			rows.put(key, r);
+		}
+		count(r, size);
+	}
+
+	private void count(Row r, long size) {
+		r.count++;
+		r.bytes += size;
+		objects++;
+		bytes += size;
+	}
+
+	/**
+	 * 不超过8个符号时是按容量分配的符号数组与下标表，否则是LinkedHashMap；
+	 * 没有符号的作用域共用同一个空表
+	 */
+	private static long symbolMapSize(int n) {
+		if (n == 0) {
+			return 0;
+		}
+		if (n > 8) {
+			return SYMBOL_MAP + mapSize(n) + 8L * n;
+		}
+		int capacity = Math.max(2, Integer.highestOneBit(n - 1) << 1);
+		return SYMBOL_MAP + align(ARRAY_HEADER + REFERENCE * capacity)
+				+ align(ARRAY_HEADER + 2 * capacity);
+	}
+
+	/**
+	 * ArrayList本身24字节，另有元素数组，按元素个数估计容量
+	 */
+	private static long listSize(int n) {
+		return 24 + align(ARRAY_HEADER + (long) REFERENCE * n);
+	}
+
+	/**
+	 * HashMap本身48字节，另有桶数组与每项32字节的结点
+	 */
+	private static long mapSize(int n) {
+		long table = Math.max(16, Long.highestOneBit(n * 4L / 3) * 2);
+		return 48 + align(ARRAY_HEADER + REFERENCE * table) + 32L * n;
+	}
+
+	/**
+	 * String本身24字节，另有Latin-1或UTF-16的byte[]
+	 */
+	private static long stringSize(String s) {
+		int bytesPerChar = 1;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) > 0xff) {
+				bytesPerChar = 2;
+				break;
+			}
+		}
+		return 24 + align(ARRAY_HEADER + (long) s.length() * bytesPerChar);
+	}
+
+	private static long align(long size) {
+		return (size + 7) & ~7L;
+	}
+
+	/**
+	 * 统计语法树中的结点、位置，以及结点直接引用的字符串、字面量与列表
+	 */
+	private final class Counter extends TreeScanner {
+
+		@Override
+		public void scan(Tree tree) {
+			if (tree != null) {
+				Row r = nodeRows.get(tree.getClass());
+				if (r == null) {
+					r = new Row("ast", tree.getClass().getSimpleName());
+					Integer size = NODE_SIZES.get(tree.getClass());
+					r.size = size == null ? DEFAULT_NODE : size;
+					nodeRows.put(tree.getClass(), r);
+					rows.put("ast:" + r.kind, r);
+				}
+				count(r, r.size);
+				if (tree.getLocation() != null) {
+					count("location", "Location", LOCATION);
+				}
+			}
+			super.scan(tree);
+		}
+
+		@Override
+		public void visitTopLevel(Tree.TopLevel that) {
+			list(that.classes);
+			super.visitTopLevel(that);
+		}
+
+		@Override
+		public void visitClassDef(Tree.ClassDef that) {
+			string(that.name);
+			string(that.parent);
+			list(that.fields);
+			super.visitClassDef(that);
+		}
+
+		@Override
+		public void visitMethodDef(Tree.MethodDef that) {
+			string(that.name);
+			list(that.formals);
+			super.visitMethodDef(that);
+		}
+
+		@Override
+		public void visitVarDef(Tree.VarDef that) {
+			string(that.name);
+			super.visitVarDef(that);
+		}
+
+		@Override
+		public void visitBlock(Tree.Block that) {
+			list(that.block);
+			super.visitBlock(that);
+		}
+
+		@Override
+		public void visitPrint(Tree.Print that) {
+			list(that.exprs);
+			super.visitPrint(that);
+		}
+
+		@Override
+		public void visitCallExpr(Tree.CallExpr that) {
+			string(that.method);
+			list(that.actuals);
+			super.visitCallExpr(that);
+		}
+
+		@Override
+		public void visitNewClass(Tree.NewClass that) {
+			string(that.className);
+			super.visitNewClass(that);
+		}
+
+		@Override
+		public void visitTypeCast(Tree.TypeCast that) {
+			string(that.className);
+			super.visitTypeCast(that);
+		}
+
+		@Override
+		public void visitTypeTest(Tree.TypeTest that) {
+			string(that.className);
+			super.visitTypeTest(that);
+		}
+
+		@Override
+		public void visitIdent(Tree.Ident that) {
+			string(that.name);
+			super.visitIdent(that);
+		}
+
+		@Override
+		public void visitTypeClass(Tree.TypeClass that) {
+			string(that.name);
+			super.visitTypeClass(that);
+		}
+
+		/**
+		 * 布尔字面量共用Boolean.TRUE与Boolean.FALSE，不计
+		 */
+		@Override
+		public void visitLiteral(Tree.Literal that) {
+			if (that.value instanceof String) {
+				string((String) that.value);
+			} else if (that.value instanceof Integer) {
+				count("literal", "Integer", INTEGER);
+			} else if (that.value instanceof Double) {
+				count("literal", "Double", DOUBLE);
+			}
+			super.visitLiteral(that);
+		}
+
+		private void string(String s) {
+			if (s != null) {
+				count("string", "String", stringSize(s));
+			}
+		}
+
+		private void list(List<?> list) {
+			if (list != null) {
+				count("collection", "ArrayList", listSize(list.size()));
+			}
+		}
+	}
+
+	private static final class Row {
+
+		private final String category;
+
+		private final String kind;
+
+		private final int order;
+
+		private long count;
+
+		private long bytes;
+
+		/**
+		 * 语法树结点的大小，其它行不用
+		 */
+		private int size;
+
+		private Row(String category, String kind) {
+			this.category = category;
+			this.kind = kind;
+			int i = 0;
+			while (!CATEGORIES[i].equals(category)) {
+				i++;
+			}
+			this.order = i;
+		}
+	}
+}
@@ -1,11 +1,24 @@
 package decaf;
 
 import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileDescriptor;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import decaf.error.ErrorFormat;
+import decaf.scope.ScopeExporter;
+import decaf.utils.ChannelOutputStream;
 
 public final class Option {
 
@@ -13,18 +26,57 @@ public final class Option {
 		LEVEL0, LEVEL1, LEVEL2, LEVEL3, LEVEL4
 	}
 
-	private String srcFileName;
+	private List<String> srcFileNames = new ArrayList<String>();
 
 	private String dstFileName;
 
-	private InputStream input = System.in;
-
-	private PrintStream output = System.out;
+	private PrintStream output;
 
 	private PrintStream err = System.err;
 
 	private Level level = Level.LEVEL4;
 
+	private boolean cacheEnabled;
+
+	private int threads = 1;
+
+	private boolean incremental;
+
+	private Location typeAt;
+
+	private boolean fused;
+
+	private boolean timed;
+
+	private int maxErrors = Integer.MAX_VALUE;
+
+	private int shownErrors = Integer.MAX_VALUE;
+
+	private boolean errorStreamed;
+
+	private ErrorFormat errorFormat = ErrorFormat.TEXT;
+
+	private long timeoutMillis;
+
+	private int maxNodes = Integer.MAX_VALUE;
+
+	/**
+	 * 默认的栈空间下，二元运算连成的表达式嵌套约2600层时递归的各遍才耗尽栈空间
+	 */
+	private int maxDepth = 1000;
+
+	private boolean streamed;
+
+	private ScopeExporter.Format exportFormat;
+
+	private int hotspots;
+
+	private boolean parseProfiled;
+
+	private boolean lookupProfiled;
+
+	private boolean memStats;
+
 	private static final String mainClassName = "Main";
 
 	private static final String mainFuncName = "main";
@@ -39,37 +91,133 @@ public final class Option {
 
 	public Option(String[] args) {
 		if (args.length == 0) {
-			output.println(usage());
+			System.out.println(usage());
 			System.exit(0);
 		}
 		for (int i = 0; i < args.length; i++) {
 			if (args[i].equals("-o")) {
 				dstFileName = args[++i];
 				try {
-					output = new PrintStream(new FileOutputStream(dstFileName));
-				} catch (FileNotFoundException e) {
+					output = new PrintStream(new ChannelOutputStream(FileChannel
+							.open(Paths.get(dstFileName),
+									StandardOpenOption.CREATE,
+									StandardOpenOption.TRUNCATE_EXISTING,
+									StandardOpenOption.WRITE)));
+				} catch (IOException e) {
 					err.println("Can not open file " + dstFileName
 							+ " for write");
 					System.exit(1);
 				}
 			} else if (args[i].equals("-l")) {
 				level = Level.valueOf("LEVEL" + args[++i]);
+			} else if (args[i].equals("-cache")) {
+				cacheEnabled = true;
+			} else if (args[i].equals("-incremental")) {
+				incremental = true;
+			} else if (args[i].equals("-fused")) {
+				fused = true;
+			} else if (args[i].equals("-maxerr")) {
+				maxErrors = parseCount(args[++i]);
+			} else if (args[i].equals("-showerr")) {
+				shownErrors = parseCount(args[++i]);
+			} else if (args[i].equals("-errstream")) {
+				errorStreamed = true;
+			} else if (args[i].equals("-errformat")) {
+				errorFormat = parseErrorFormat(args[++i]);
+			} else if (args[i].equals("-timeout")) {
+				timeoutMillis = parseCount(args[++i]);
+			} else if (args[i].equals("-maxnodes")) {
+				maxNodes = parseCount(args[++i]);
+			} else if (args[i].equals("-maxdepth")) {
+				maxDepth = parseCount(args[++i]);
+			} else if (args[i].equals("-stream")) {
+				streamed = true;
+			} else if (args[i].equals("-memstats")) {
+				memStats = true;
+			} else if (args[i].equals("-lookupprof")) {
+				lookupProfiled = true;
+			} else if (args[i].equals("-parseprof")) {
+				parseProfiled = true;
+			} else if (args[i].equals("-hotspots")) {
+				hotspots = parseCount(args[++i]);
+			} else if (args[i].equals("-export")) {
+				exportFormat = parseExportFormat(args[++i]);
+			} else if (args[i].equals("-time")) {
+				timed = true;
+			} else if (args[i].equals("-typeat")) {
+				typeAt = parseLocation(args[++i]);
+			} else if (args[i].equals("-j")) {
+				threads = parseCount(args[++i]);
 			} else {
-				srcFileName = args[i];
-				try {
-					input = new BufferedInputStream(new FileInputStream(
-							srcFileName));
-				} catch (FileNotFoundException e) {
-					err.println("File " + srcFileName + " not found");
-					System.exit(1);
-				}
+				srcFileNames.add(args[i]);
+			}
+		}
+		if (output == null) {
+			output = new PrintStream(new ChannelOutputStream(Channels
+					.newChannel(new FileOutputStream(FileDescriptor.out))));
+		}
+		for (String name : srcFileNames) {
+			if (!new File(name).isFile()) {
+				err.println("File " + name + " not found");
+				System.exit(1);
 			}
 		}
 	}
 
+	private int parseCount(String arg) {
+		try {
+			int n = Integer.parseInt(arg);
+			if (n > 0) {
+				return n;
+			}
+		} catch (NumberFormatException e) {
+		}
+		err.println("Invalid count " + arg);
+		System.exit(1);
+		return 0;
+	}
+
+	private ErrorFormat parseErrorFormat(String arg) {
+		try {
+			return ErrorFormat.valueOf(arg.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			err.println("Invalid error format " + arg);
+			System.exit(1);
+			return null;
+		}
+	}
+
+	private ScopeExporter.Format parseExportFormat(String arg) {
+		try {
+			return ScopeExporter.Format.valueOf(arg.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			err.println("Invalid export format " + arg);
+			System.exit(1);
+			return null;
+		}
+	}
+
+	private Location parseLocation(String arg) {
+		int colon = arg.indexOf(':');
+		try {
+			if (colon > 0) {
+				return new Location(Integer.parseInt(arg.substring(0, colon)),
+						Integer.parseInt(arg.substring(colon + 1)));
+			}
+		} catch (NumberFormatException e) {
+		}
+		err.println("Invalid position " + arg);
+		System.exit(1);
+		return null;
+	}
+
 	private String usage() {
 		return ("\n"
-				+ "Usage:  java -jar decaf.jar [-l LEVEL] [-o OUTPUT] SOURCE\n"
+				+ "Usage:  java -jar decaf.jar [-l LEVEL] [-o OUTPUT] [-cache] [-incremental] [-j N] [-typeat LINE:COL] [-fused] [-time]\n"
+				+ "        [-maxerr N] [-showerr N] [-errstream] [-errformat text|json]\n"
+				+ "        [-timeout MS] [-maxnodes N] [-maxdepth N] [-stream]\n"
+				+ "        [-export ndjson|binary] [-hotspots N] [-parseprof]\n"
+				+ "        [-lookupprof] [-memstats] SOURCE...\n"
 				+ "Options:\n"
 				+ "    -l  Developing level of the compiler, values of LEVEL are:  \n"
 				+ "        0  AST Construction                                     \n"
@@ -80,19 +228,97 @@ public final class Option {
 				+ "                                                                \n"
 				+ "    -o  Specifying the output file name. stdout if omitted.     \n"
 				+ "                                                                \n"
+				+ "    -cache  Reuse type check results of classes already seen   \n"
+				+ "        by this process, and report the hit rate at the end.    \n"
+				+ "                                                                \n"
+				+ "    -incremental  Treat the SOURCE files as successive versions\n"
+				+ "        of one program and re-check only the method bodies     \n"
+				+ "        whose text or dependencies changed.                    \n"
+				+ "                                                                \n"
+				+ "    -j  Type check method bodies on N threads (default 1).      \n"
+				+ "                                                                \n"
+				+ "    -fused  Declare local variables while type checking, in one\n"
+				+ "        walk over the method bodies (ignores -j, -cache and    \n"
+				+ "        -incremental).                                         \n"
+				+ "                                                                \n"
+				+ "    -time  Report the time spent in each phase.                \n"
+				+ "                                                                \n"
+				+ "    -maxerr  Stop compiling after N errors. With -j the threads\n"
+				+ "        stop as soon as N errors are found between them, so   \n"
+				+ "        which N errors are reported may vary from run to run. \n"
+				+ "                                                                \n"
+				+ "    -showerr  Report only the N errors that come first in the  \n"
+				+ "        source, keeping no more than N in memory.              \n"
+				+ "                                                                \n"
+				+ "    -errstream  Report each error as soon as it is found,      \n"
+				+ "        unsorted.                                              \n"
+				+ "                                                                \n"
+				+ "    -errformat  Report errors as text (default) or as one JSON \n"
+				+ "        object per line.                                       \n"
+				+ "                                                                \n"
+				+ "    -timeout  Abandon a SOURCE after MS milliseconds.          \n"
+				+ "                                                                \n"
+				+ "    -maxnodes  Abandon a SOURCE whose syntax tree would have   \n"
+				+ "        more than N nodes.                                     \n"
+				+ "                                                                \n"
+				+ "    -maxdepth  Abandon a SOURCE whose syntax tree is nested   \n"
+				+ "        more than N levels deep (default 1000).                \n"
+				+ "                                                                \n"
+				+ "    -stream  With -l 0, print each class as soon as it is      \n"
+				+ "        parsed and then drop it, so memory is bounded by the   \n"
+				+ "        largest class. With -l 1, parse twice: declarations   \n"
+				+ "        first, then check and print one class at a time, so   \n"
+				+ "        only one class's bodies are in memory (ignores -j,    \n"
+				+ "        -fused takes precedence). At both levels output stops \n"
+				+ "        at the first error and what was already printed is    \n"
+				+ "        kept, so an erroneous SOURCE may leave a partial      \n"
+				+ "        listing. At -l 1 syntax and declaration errors are    \n"
+				+ "        found before anything is printed.                     \n"
+				+ "                                                                \n"
+				+ "    -export  With -l 1, write the scopes as NDJSON records or   \n"
+				+ "        in a compact binary format instead of the text dump.   \n"
+				+ "                                                                \n"
+				+ "    -hotspots  After each SOURCE, print the N methods that took\n"
+				+ "        longest to build and type check, with allocations and \n"
+				+ "        member/local lookup counts.                            \n"
+				+ "                                                                \n"
+				+ "    -parseprof  After each SOURCE, print reductions and time   \n"
+				+ "        per grammar production, the deepest parser stacks and \n"
+				+ "        a histogram of parse time between tokens.             \n"
+				+ "                                                                \n"
+				+ "    -lookupprof  After each SOURCE, print how many scope       \n"
+				+ "        lookups were made, how many tables each probed, how    \n"
+				+ "        often they missed and how far out the hits were.       \n"
+				+ "                                                                \n"
+				+ "    -memstats  After each SOURCE, print the count and estimated \n"
+				+ "        size of the ASTs, locations, symbols, scopes, types and \n"
+				+ "        strings still reachable at the end of each phase.       \n"
+				+ "                                                                \n"
+				+ "    -typeat  Print the type of the expression at LINE:COL,     \n"
+				+ "        analysing only the classes and methods it depends on.   \n"
+				+ "                                                                \n"
+				+ "    Several SOURCE files are compiled one after another in the  \n"
+				+ "    same process, writing to the same OUTPUT.                   \n"
+				+ "                                                                \n"
 				+ "\n");
 	}
 
-	public String getSrcFileName() {
-		return srcFileName;
+	public List<String> getSrcFileNames() {
+		return srcFileNames;
 	}
 
 	public String getDstFileName() {
 		return dstFileName;
 	}
 
-	public InputStream getInput() {
-		return input;
+	/**
+	 * 打开源文件，name为null时使用标准输入
+	 */
+	public InputStream openInput(String name) throws FileNotFoundException {
+		if (name == null) {
+			return System.in;
+		}
+		return new BufferedInputStream(new FileInputStream(name));
 	}
 
 	public Level getLevel() {
@@ -106,4 +332,98 @@ public final class Option {
 	public PrintStream getErr() {
 		return err;
 	}
+
+	public boolean isCacheEnabled() {
+		return cacheEnabled;
+	}
+
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public boolean isFused() {
+		return fused;
+	}
+
+	public boolean isTimed() {
+		return timed;
+	}
+
+	/**
+	 * @return 中止编译前允许的错误个数，不限时为Integer.MAX_VALUE
+	 */
+	public int getMaxErrors() {
+		return maxErrors;
+	}
+
+	/**
+	 * @return 最多报告的错误个数，不限时为Integer.MAX_VALUE
+	 */
+	public int getShownErrors() {
+		return shownErrors;
+	}
+
+	public boolean isErrorStreamed() {
+		return errorStreamed;
+	}
+
+	public ErrorFormat getErrorFormat() {
+		return errorFormat;
+	}
+
+	/**
+	 * @return 每个源文件允许的编译时间（毫秒），不限时为0
+	 */
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
+
+	public int getMaxNodes() {
+		return maxNodes;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public boolean isStreamed() {
+		return streamed;
+	}
+
+	public boolean isLookupProfiled() {
+		return lookupProfiled;
+	}
+
+	public boolean isMemStats() {
+		return memStats;
+	}
+
+	public boolean isParseProfiled() {
+		return parseProfiled;
+	}
+
+	/**
+	 * @return 输出最慢的方法的个数，0为不统计
+	 */
+	public int getHotspots() {
+		return hotspots;
+	}
+
+	/**
+	 * @return -export给出的格式，没有时返回null
+	 */
+	public ScopeExporter.Format getExportFormat() {
+		return exportFormat;
+	}
+
+	/**
+	 * @return -typeat给出的位置，没有时返回null
+	 */
+	public Location getTypeAt() {
+		return typeAt;
+	}
 }
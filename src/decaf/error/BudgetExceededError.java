@@ -0,0 +1,23 @@
+package decaf.error;
+
+import decaf.Location;
+
+/**
+ * 编译因超出预算或被取消而中止<br>
+ * compilation exceeded the time budget of 100 ms
+ */
+public class BudgetExceededError extends DecafError {
+
+	private String reason;
+
+	public BudgetExceededError(String reason) {
+		super(Location.NO_LOCATION);
+		this.reason = reason;
+	}
+
+	@Override
+	protected String getErrMsg() {
+		return reason;
+	}
+
+}
@@ -0,0 +1,13 @@
+package decaf.error;
+
+/**
+ * 编译超出预算或被取消时抛出，中止当前阶段，由Driver报告
+ */
+public class BudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public BudgetExceededException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,34 @@
+package decaf.error;
+
+import decaf.Location;
+
+/**
+ * 仅供ClassCache重放缓存的诊断信息使用<br>
+ * 保存原错误的描述，位置可在重放时重新指定
+ */
+public class CachedError extends DecafError {
+
+	private String msg;
+
+	public CachedError(Location location, DecafError origin) {
+		this(location, origin.getErrMsg());
+	}
+
+	private CachedError(Location location, String msg) {
+		super(location);
+		this.msg = msg;
+	}
+
+	/**
+	 * @return 描述相同、位置为location的错误
+	 */
+	public CachedError relocate(Location location) {
+		return new CachedError(location, msg);
+	}
+
+	@Override
+	protected String getErrMsg() {
+		return msg;
+	}
+
+}
@@ -0,0 +1,23 @@
+package decaf.error;
+
+/**
+ * 编译错误的去处<br>
+ * Driver把各遍报告的错误交给它，在每个阶段结束时调用flush
+ */
+public interface DiagnosticSink {
+
+	/**
+	 * 接收一个错误
+	 */
+	void report(DecafError error);
+
+	/**
+	 * @return 至今接收的错误个数，包括未被保留的
+	 */
+	int getCount();
+
+	/**
+	 * 输出尚未输出的错误
+	 */
+	void flush();
+}
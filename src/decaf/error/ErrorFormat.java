@@ -0,0 +1,50 @@
+package decaf.error;
+
+import decaf.Location;
+import decaf.utils.MiscUtils;
+
+/**
+ * 错误的输出格式
+ */
+public enum ErrorFormat {
+
+	/**
+	 * 与DecafError.toString()相同
+	 */
+	TEXT {
+		@Override
+		public String format(DecafError error) {
+			return error.toString();
+		}
+
+		@Override
+		public String note(String message) {
+			return message;
+		}
+	},
+
+	/**
+	 * 每行一个JSON对象，无位置的错误行号与列号为-1
+	 */
+	JSON {
+		@Override
+		public String format(DecafError error) {
+			Location loc = error.getLocation();
+			return "{\"line\":" + loc.getLine() + ",\"column\":"
+					+ loc.getColumn() + ",\"message\":"
+					+ MiscUtils.quoteJson(error.getErrMsg()) + "}";
+		}
+
+		@Override
+		public String note(String message) {
+			return "{\"note\":" + MiscUtils.quoteJson(message) + "}";
+		}
+	};
+
+	public abstract String format(DecafError error);
+
+	/**
+	 * 格式化一条不是错误的附加信息，如被省略的错误个数
+	 */
+	public abstract String note(String message);
+}
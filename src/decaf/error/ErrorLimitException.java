@@ -0,0 +1,13 @@
+package decaf.error;
+
+/**
+ * 错误个数达到-maxerr给出的上限时由Driver抛出，中止当前阶段
+ */
+public class ErrorLimitException extends BudgetExceededException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ErrorLimitException(int limit) {
+		super("too many errors (" + limit + ")");
+	}
+}
@@ -0,0 +1,101 @@
+package decaf.error;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * 按位置排序后输出，位置相同的按接收的先后<br>
+ * 只保留位置最靠前的limit个错误：用以位置最靠后者为堆顶的堆，超出时弹出堆顶，
+ * 因此内存与limit成正比，输出恰为不设上限时输出的前limit行
+ */
+public class SortedSink implements DiagnosticSink {
+
+	private static final class Entry {
+
+		private final DecafError error;
+
+		private final int seq;
+
+		Entry(DecafError error, int seq) {
+			this.error = error;
+			this.seq = seq;
+		}
+	}
+
+	private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+
+		@Override
+		public int compare(Entry o1, Entry o2) {
+			int c = o1.error.getLocation().compareTo(o2.error.getLocation());
+			if (c != 0) {
+				return c;
+			}
+			return o1.seq < o2.seq ? -1 : (o1.seq == o2.seq ? 0 : 1);
+		}
+
+	};
+
+	private final PrintStream out;
+
+	private final ErrorFormat format;
+
+	private final int limit;
+
+	private final PriorityQueue<Entry> heap;
+
+	private int count;
+
+	private int flushed;
+
+	/**
+	 * @param limit
+	 *            最多输出的错误个数，不限时为Integer.MAX_VALUE
+	 */
+	public SortedSink(PrintStream out, ErrorFormat format, int limit) {
+		this.out = out;
+		this.format = format;
+		this.limit = limit;
+		this.heap = new PriorityQueue<Entry>(16, new Comparator<Entry>() {
+
+			@Override
+			public int compare(Entry o1, Entry o2) {
+				return ORDER.compare(o2, o1);
+			}
+
+		});
+	}
+
+	@Override
+	public void report(DecafError error) {
+		heap.add(new Entry(error, count++));
+		if (heap.size() > limit) {
+			heap.poll();
+		}
+	}
+
+	@Override
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public void flush() {
+		if (heap.isEmpty() && flushed == count) {
+			return;
+		}
+		Entry[] entries = heap.toArray(new Entry[heap.size()]);
+		heap.clear();
+		Arrays.sort(entries, ORDER);
+		for (Entry e : entries) {
+			out.println(format.format(e.error));
+		}
+		int omitted = count - flushed - entries.length;
+		if (omitted > 0) {
+			out.println(format.note(omitted + " more error"
+					+ (omitted == 1 ? "" : "s") + " not shown"));
+		}
+		flushed = count;
+	}
+}
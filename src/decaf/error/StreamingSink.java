@@ -0,0 +1,36 @@
+package decaf.error;
+
+import java.io.PrintStream;
+
+/**
+ * 收到错误立即输出，按产生的先后而非位置排列，不保存错误
+ */
+public class StreamingSink implements DiagnosticSink {
+
+	private final PrintStream out;
+
+	private final ErrorFormat format;
+
+	private int count;
+
+	public StreamingSink(PrintStream out, ErrorFormat format) {
+		this.out = out;
+		this.format = format;
+	}
+
+	@Override
+	public void report(DecafError error) {
+		count++;
+		out.println(format.format(error));
+	}
+
+	@Override
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public void flush() {
+		out.flush();
+	}
+}
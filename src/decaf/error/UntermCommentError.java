@@ -0,0 +1,20 @@
+package decaf.error;
+
+import decaf.Location;
+
+/**
+ * example：unterminated comment<br>
+ * PA1
+ */
+public class UntermCommentError extends DecafError {
+
+	public UntermCommentError(Location location) {
+		super(location);
+	}
+
+	@Override
+	protected String getErrMsg() {
+		return "unterminated comment";
+	}
+
+}
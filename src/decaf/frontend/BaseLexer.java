@@ -21,6 +21,13 @@ public abstract class BaseLexer {
 
 	abstract Location getLocation();
 
+	/**
+	 * 扫描很长的注释或字符串时检查预算，使其中途也能取消
+	 */
+	protected void poll() {
+		parser.checkBudget();
+	}
+
 	protected void issueError(DecafError error) {
 		Driver.getDriver().issueError(error);
 	}
@@ -1,23 +1,197 @@
 package decaf.frontend;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import decaf.Driver;
 import decaf.tree.Tree;
+import decaf.error.BudgetExceededException;
 import decaf.error.DecafError;
 import decaf.error.MsgError;
+import decaf.utils.Budget;
+import decaf.utils.IndentPrintWriter;
 
 public abstract class BaseParser {
 	private Lexer lexer;
 
 	protected Tree.TopLevel tree;
 
+	private Budget budget;
+
+	/**
+	 * 不为null时每归约出一个类就输出，参见setStream
+	 */
+	private IndentPrintWriter stream;
+
+	private boolean streamStarted;
+
+	private ClassListener classListener;
+
+	/**
+	 * 生成的Parser只能设置一个ReduceListener，由reduced分发给各个监听者
+	 */
+	private final List<ReductionListener> reduceListeners = new ArrayList<ReductionListener>();
+
+	private ParseProfiler profiler;
+
+	/**
+	 * 每归约出一个类调用一次
+	 */
+	public interface ClassListener {
+
+		/**
+		 * @return 为false时该类不加入语法树
+		 */
+		boolean classParsed(Tree.ClassDef classDef);
+	}
+
+	/**
+	 * 每次归约调用一次。生成的ReduceListener只在Parser.java中可见，
+	 * 其它文件中的监听者实现这个接口，由listen加入
+	 */
+	interface ReductionListener {
+
+		/**
+		 * @return 为false时不执行产生式的动作
+		 */
+		boolean onReduce(String rule);
+	}
+
 	public void setLexer(Lexer lexer) {
 		this.lexer = lexer;
 	}
 
+	/**
+	 * 每读一个单词、每做一次归约检查一次预算，多行注释每行、字符串中的每段字符也检查。
+	 * 归约时还计算并检查嵌套深度，语法树建立之前就能中止嵌套过深的程序
+	 */
+	public void setBudget(Budget budget) {
+		setBudget(budget, true);
+	}
+
+	/**
+	 * 同setBudget，但归约不计入-maxnodes，用于再次分析已经计过数的源程序
+	 */
+	public void setTimeBudget(Budget budget) {
+		setBudget(budget, false);
+	}
+
+	private void setBudget(final Budget budget, final boolean countNodes) {
+		this.budget = budget;
+		listen(new ReductionListener() {
+
+			@Override
+			public boolean onReduce(String rule) {
+				if (countNodes) {
+					budget.countNode();
+				} else {
+					budget.check();
+				}
+				budget.checkDepth(nest(rule));
+				return true;
+			}
+
+		});
+	}
+
+	/**
+	 * 在动作执行之前计算左部的嵌套深度：右部各符号深度的最大值加一，列表的追加不算嵌套。
+	 * 右部非空时动作的结果就是右部第一个语义值，深度记在它上面；右部为空时动作新建
+	 * 语义值，深度为0；括号的动作直接取括号中的语义值，不增加深度
+	 */
+	private int nest(String rule) {
+		Parser parser = (Parser) this;
+		if (parser.yym == 0) {
+			return 0;
+		}
+		int depth = 0;
+		for (int i = 0; i < parser.yym; i++) {
+			depth = Math.max(depth, parser.val_peek(i).depth);
+		}
+		int colon = rule.indexOf(" :");
+		if (!rule.startsWith("List", colon - 4)) {
+			depth++;
+		}
+		parser.val_peek(parser.yym - 1).depth = depth;
+		return depth;
+	}
+
+	/**
+	 * 由profiler统计本次语法分析，可先后用于多个语法分析器
+	 */
+	public void setProfiler(ParseProfiler profiler) {
+		this.profiler = profiler;
+		profiler.attach((Parser) this);
+		listen(profiler);
+	}
+
+	/**
+	 * @return 值栈。已弹出的位置仍引用着原来的语义值，直到被覆盖，供-memstats统计
+	 */
+	public SemValue[] getValueStack() {
+		return ((Parser) this).valstk;
+	}
+
+	/**
+	 * 加入一个监听者。全部监听者都返回true时才执行产生式的动作
+	 */
+	void listen(ReductionListener l) {
+		if (reduceListeners.isEmpty()) {
+			dispatchReductions();
+		}
+		reduceListeners.add(l);
+	}
+
+	/**
+	 * 由Parser安装的ReduceListener调用
+	 */
+	boolean reduced(String rule) {
+		boolean act = true;
+		for (ReductionListener l : reduceListeners) {
+			act &= l.onReduce(rule);
+		}
+		return act;
+	}
+
 	public Tree.TopLevel getTree() {
 		return tree;
 	}
 
+	/**
+	 * 只输出语法树（-l 0 -stream）时使用：每归约出一个类就输出它并丢弃，
+	 * 语法树中不再保留类，占用的内存只与最大的类有关。一旦有错误便不再输出，
+	 * 已输出的部分保留，与逐个类的LEVEL1（ClassPipeline）相同
+	 */
+	public void setStream(IndentPrintWriter stream) {
+		this.stream = stream;
+	}
+
+	public void setClassListener(ClassListener classListener) {
+		this.classListener = classListener;
+	}
+
+	/**
+	 * ClassList归约时调用
+	 */
+	protected void addClass(List<Tree.ClassDef> classes, Tree.ClassDef cd) {
+		if (classListener != null && !classListener.classParsed(cd)) {
+			return;
+		}
+		if (stream == null) {
+			classes.add(cd);
+			return;
+		}
+		if (Driver.getDriver().hasErrors()) {
+			return;
+		}
+		if (!streamStarted) {
+			streamStarted = true;
+			stream.println("program");
+			stream.incIndent();
+		}
+		cd.printTo(stream);
+	}
+
 	protected void issueError(DecafError error) {
 		Driver.getDriver().issueError(error);
 	}
@@ -27,21 +201,48 @@ public abstract class BaseParser {
 				new MsgError(lexer.getLocation(), msg));
 	}
 
+	/**
+	 * 设置了预算时检查一次
+	 */
+	void checkBudget() {
+		if (budget != null) {
+			budget.check();
+		}
+	}
+
 	int yylex() {
+		checkBudget();
+		if (profiler != null) {
+			profiler.beforeLex();
+		}
 		int token = -1;
 		try {
 			token = lexer.yylex();
+		} catch (BudgetExceededException e) {
+			// 扫描注释或字符串时超出预算、错误个数达到上限：中止编译，不是词法错误
+			throw e;
 		} catch (Exception e) {
 			yyerror("lexer error: " + e.getMessage());
 		}
-
+		if (profiler != null) {
+			profiler.afterLex();
+		}
 		return token;
 	}
 
 	abstract int yyparse();
 
+	/**
+	 * 设置把每次归约交给reduced的ReduceListener
+	 */
+	abstract void dispatchReductions();
+
 	public Tree.TopLevel parseFile() {
 		yyparse();
+		if (streamStarted) {
+			stream.decIndent();
+			stream.flush();
+		}
 		return tree;
 	}
 
@@ -1,4 +1,4 @@
-/* The following code was generated by JFlex 1.4.1 on 13-12-1 上午1:12 */
+/* The following code was generated by JFlex 1.4.1 on 10/19/26, 10:01 AM */
 
 /*
  * 本文件是构造Decaf编译器所需要的JFlex输入脚本。
@@ -17,7 +17,7 @@ import decaf.utils.MiscUtils;
 /**
  * This class is a scanner generated by 
  * <a href="http://www.jflex.de/">JFlex</a> 1.4.1
- * on 13-12-1 上午1:12 from the specification file
+ * on 10/19/26, 10:01 AM from the specification file
  * <tt>src/decaf/frontend/Lexer.l</tt>
  */
 public class Lexer extends BaseLexer {
@@ -31,6 +31,7 @@ public class Lexer extends BaseLexer {
   /** lexical states */
   public static final int S = 1;
   public static final int YYINITIAL = 0;
+  public static final int C = 2;
 
   /** 
    * Translates characters to character classes
@@ -56,18 +57,19 @@ public class Lexer extends BaseLexer {
   private static final int [] ZZ_ACTION = zzUnpackAction();
 
   private static final String ZZ_ACTION_PACKED_0 =
-    "\2\0\1\1\2\2\1\3\1\4\1\3\7\5\1\2"+
-    "\17\4\2\1\1\6\1\7\2\10\1\11\1\7\1\12"+
-    "\4\0\1\13\1\14\1\15\1\16\2\4\1\17\22\4"+
-    "\1\20\1\21\1\22\1\23\1\24\1\25\1\0\1\3"+
-    "\1\0\1\4\1\26\2\4\1\27\15\4\1\30\3\4"+
-    "\1\12\1\0\1\2\1\31\1\4\1\32\1\33\1\34"+
-    "\1\35\2\4\1\36\13\4\1\37\1\40\5\4\1\41"+
-    "\1\42\1\43\1\44\2\4\1\45\1\4\1\46\1\47"+
-    "\1\50\1\51\2\4\1\52\3\4\1\53\2\4\1\54";
+    "\3\0\1\1\2\2\1\3\1\4\1\3\7\5\1\2"+
+    "\17\4\2\1\1\6\1\7\2\10\1\11\1\12\3\13"+
+    "\1\2\1\14\2\0\1\15\1\0\1\16\1\17\1\20"+
+    "\1\21\2\4\1\22\22\4\1\23\1\24\1\25\1\26"+
+    "\1\27\1\30\1\31\1\0\1\3\1\4\1\32\2\4"+
+    "\1\33\15\4\1\34\3\4\1\14\1\0\1\35\1\4"+
+    "\1\36\1\37\1\40\1\41\2\4\1\42\13\4\1\43"+
+    "\1\44\5\4\1\45\1\46\1\47\1\50\2\4\1\51"+
+    "\1\4\1\52\1\53\1\54\1\55\2\4\1\56\3\4"+
+    "\1\57\2\4\1\60";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[152];
+    int [] result = new int[156];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -152,6 +154,7 @@ public class Lexer extends BaseLexer {
 
   /* user code: */
 	private Location sloc = null;
+	private Location cloc = null;
 	private StringBuilder buffer = new StringBuilder();
 
 	public Location getLocation() {
@@ -498,66 +501,74 @@ public class Lexer extends BaseLexer {
               switch (zzInput) {
                 case 0: 
                 case 11: 
-                case 48: zzIsFinal = true; zzNoLookAhead = true; zzState = 2; break zzForNext;
-                case 1: zzIsFinal = true; zzState = 3; break zzForNext;
-                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 4; break zzForNext;
-                case 3: zzIsFinal = true; zzState = 5; break zzForNext;
-                case 5: zzIsFinal = true; zzState = 7; break zzForNext;
-                case 7: zzIsFinal = true; zzState = 8; break zzForNext;
-                case 8: 
-                case 12: 
-                case 14: zzIsFinal = true; zzNoLookAhead = true; zzState = 9; break zzForNext;
-                case 13: zzIsFinal = true; zzState = 10; break zzForNext;
-                case 15: zzIsFinal = true; zzState = 11; break zzForNext;
-                case 16: zzIsFinal = true; zzState = 12; break zzForNext;
-                case 17: zzIsFinal = true; zzState = 13; break zzForNext;
-                case 18: zzIsFinal = true; zzState = 14; break zzForNext;
-                case 19: zzIsFinal = true; zzState = 15; break zzForNext;
-                case 20: zzIsFinal = true; zzState = 16; break zzForNext;
-                case 22: zzIsFinal = true; zzState = 17; break zzForNext;
-                case 23: zzIsFinal = true; zzState = 18; break zzForNext;
-                case 24: zzIsFinal = true; zzState = 19; break zzForNext;
-                case 25: zzIsFinal = true; zzState = 20; break zzForNext;
-                case 26: zzIsFinal = true; zzState = 21; break zzForNext;
-                case 28: zzIsFinal = true; zzState = 22; break zzForNext;
-                case 29: zzIsFinal = true; zzState = 23; break zzForNext;
-                case 30: zzIsFinal = true; zzState = 24; break zzForNext;
-                case 31: zzIsFinal = true; zzState = 25; break zzForNext;
-                case 33: zzIsFinal = true; zzState = 26; break zzForNext;
-                case 34: zzIsFinal = true; zzState = 27; break zzForNext;
-                case 38: zzIsFinal = true; zzState = 28; break zzForNext;
-                case 40: zzIsFinal = true; zzState = 29; break zzForNext;
-                case 41: zzIsFinal = true; zzState = 30; break zzForNext;
-                case 45: zzIsFinal = true; zzState = 31; break zzForNext;
-                case 46: zzIsFinal = true; zzState = 32; break zzForNext;
-                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 33; break zzForNext;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                case 48: zzIsFinal = true; zzNoLookAhead = true; zzState = 3; break zzForNext;
+                case 1: zzIsFinal = true; zzState = 4; break zzForNext;
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 5; break zzForNext;
+                case 3: zzIsFinal = true; zzState = 6; break zzForNext;
+                case 5: zzIsFinal = true; zzState = 8; break zzForNext;
+                case 7: zzIsFinal = true; zzState = 9; break zzForNext;
+                case 8: 
+                case 12: 
+                case 14: zzIsFinal = true; zzNoLookAhead = true; zzState = 10; break zzForNext;
+                case 13: zzIsFinal = true; zzState = 11; break zzForNext;
+                case 15: zzIsFinal = true; zzState = 12; break zzForNext;
+                case 16: zzIsFinal = true; zzState = 13; break zzForNext;
+                case 17: zzIsFinal = true; zzState = 14; break zzForNext;
+                case 18: zzIsFinal = true; zzState = 15; break zzForNext;
+                case 19: zzIsFinal = true; zzState = 16; break zzForNext;
+                case 20: zzIsFinal = true; zzState = 17; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 18; break zzForNext;
+                case 23: zzIsFinal = true; zzState = 19; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 20; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 21; break zzForNext;
+                case 26: zzIsFinal = true; zzState = 22; break zzForNext;
+                case 28: zzIsFinal = true; zzState = 23; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 24; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 25; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 26; break zzForNext;
+                case 33: zzIsFinal = true; zzState = 27; break zzForNext;
+                case 34: zzIsFinal = true; zzState = 28; break zzForNext;
+                case 38: zzIsFinal = true; zzState = 29; break zzForNext;
+                case 40: zzIsFinal = true; zzState = 30; break zzForNext;
+                case 41: zzIsFinal = true; zzState = 31; break zzForNext;
+                case 45: zzIsFinal = true; zzState = 32; break zzForNext;
+                case 46: zzIsFinal = true; zzState = 33; break zzForNext;
+                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 34; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
             case 1:
               switch (zzInput) {
-                case 1: zzIsFinal = true; zzState = 35; break zzForNext;
-                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 36; break zzForNext;
-                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 37; break zzForNext;
-                case 48: zzIsFinal = true; zzState = 38; break zzForNext;
-                default: zzIsFinal = true; zzNoLookAhead = true; zzState = 34; break zzForNext;
+                case 1: zzIsFinal = true; zzState = 36; break zzForNext;
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 37; break zzForNext;
+                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 38; break zzForNext;
+                case 48: zzIsFinal = true; zzState = 39; break zzForNext;
+                default: zzIsFinal = true; zzState = 35; break zzForNext;
               }
 
-            case 3:
+            case 2:
               switch (zzInput) {
-                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 4; break zzForNext;
+                case 1: zzIsFinal = true; zzState = 41; break zzForNext;
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 42; break zzForNext;
+                case 12: zzIsFinal = true; zzState = 43; break zzForNext;
+                default: zzIsFinal = true; zzState = 40; break zzForNext;
+              }
+
+            case 4:
+              switch (zzInput) {
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 5; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 5:
+            case 6:
               switch (zzInput) {
                 case 3: 
                 case 5: zzIsFinal = true; break zzForNext;
-                case 8: zzIsFinal = true; zzState = 39; break zzForNext;
+                case 8: zzIsFinal = true; zzState = 44; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 6:
+            case 7:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -579,63 +590,63 @@ public class Lexer extends BaseLexer {
                 default: zzIsFinal = true; break zzForNext;
               }
 
-            case 7:
+            case 8:
               switch (zzInput) {
                 case 3: 
-                case 5: zzIsFinal = true; zzState = 5; break zzForNext;
-                case 8: zzIsFinal = true; zzState = 39; break zzForNext;
+                case 5: zzIsFinal = true; zzState = 6; break zzForNext;
+                case 8: zzIsFinal = true; zzState = 44; break zzForNext;
                 case 6: 
-                case 36: zzState = 40; break zzForNext;
+                case 36: zzState = 45; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 8:
+            case 9:
               switch (zzInput) {
                 case 3: 
-                case 5: zzState = 41; break zzForNext;
-                default: break zzForAction;
-              }
-
-            case 10:
-              switch (zzInput) {
-                case 12: zzState = 42; break zzForNext;
-                case 13: zzState = 43; break zzForNext;
+                case 5: zzState = 46; break zzForNext;
                 default: break zzForAction;
               }
 
             case 11:
               switch (zzInput) {
-                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 44; break zzForNext;
+                case 12: zzIsFinal = true; zzNoLookAhead = true; zzState = 47; break zzForNext;
+                case 13: zzState = 48; break zzForNext;
                 default: break zzForAction;
               }
 
             case 12:
               switch (zzInput) {
-                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 45; break zzForNext;
+                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 49; break zzForNext;
                 default: break zzForAction;
               }
 
             case 13:
               switch (zzInput) {
-                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 46; break zzForNext;
+                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 50; break zzForNext;
                 default: break zzForAction;
               }
 
             case 14:
               switch (zzInput) {
-                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 47; break zzForNext;
+                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 51; break zzForNext;
                 default: break zzForAction;
               }
 
             case 15:
               switch (zzInput) {
-                case 19: zzIsFinal = true; break zzForNext;
+                case 15: zzIsFinal = true; zzNoLookAhead = true; zzState = 52; break zzForNext;
                 default: break zzForAction;
               }
 
             case 16:
               switch (zzInput) {
-                case 21: zzIsFinal = true; zzState = 48; break zzForNext;
+                case 19: zzIsFinal = true; break zzForNext;
+                default: break zzForAction;
+              }
+
+            case 17:
+              switch (zzInput) {
+                case 21: zzIsFinal = true; zzState = 53; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -653,13 +664,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 17:
+            case 18:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 49; break zzForNext;
-                case 38: zzIsFinal = true; zzState = 50; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 54; break zzForNext;
+                case 38: zzIsFinal = true; zzState = 55; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -677,12 +688,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 18:
+            case 19:
               switch (zzInput) {
-                case 21: zzIsFinal = true; zzState = 51; break zzForNext;
+                case 21: zzIsFinal = true; zzState = 56; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -700,13 +711,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 19:
+            case 20:
               switch (zzInput) {
-                case 28: zzIsFinal = true; zzState = 52; break zzForNext;
-                case 29: zzIsFinal = true; zzState = 53; break zzForNext;
+                case 28: zzIsFinal = true; zzState = 57; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 58; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -724,13 +735,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 20:
+            case 21:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 54; break zzForNext;
-                case 37: zzIsFinal = true; zzState = 55; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 59; break zzForNext;
+                case 37: zzIsFinal = true; zzState = 60; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -748,13 +759,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 21:
+            case 22:
               switch (zzInput) {
-                case 21: zzIsFinal = true; zzState = 56; break zzForNext;
-                case 31: zzIsFinal = true; zzState = 57; break zzForNext;
+                case 21: zzIsFinal = true; zzState = 61; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 62; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -772,12 +783,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 22:
+            case 23:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 58; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 63; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -795,13 +806,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 23:
+            case 24:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 59; break zzForNext;
-                case 36: zzIsFinal = true; zzState = 60; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 64; break zzForNext;
+                case 36: zzIsFinal = true; zzState = 65; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -819,12 +830,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 24:
+            case 25:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 61; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 66; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -842,12 +853,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 25:
+            case 26:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 62; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 67; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -865,12 +876,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 26:
+            case 27:
               switch (zzInput) {
-                case 37: zzIsFinal = true; zzState = 63; break zzForNext;
+                case 37: zzIsFinal = true; zzState = 68; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -888,12 +899,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 27:
+            case 28:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 64; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 69; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -911,13 +922,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 28:
+            case 29:
               switch (zzInput) {
-                case 21: zzIsFinal = true; zzState = 65; break zzForNext;
-                case 35: zzIsFinal = true; zzState = 66; break zzForNext;
+                case 21: zzIsFinal = true; zzState = 70; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 71; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -935,12 +946,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 29:
+            case 30:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 67; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 72; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -958,12 +969,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 30:
+            case 31:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 68; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 73; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -981,46 +992,75 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 31:
+            case 32:
               switch (zzInput) {
-                case 45: zzIsFinal = true; zzNoLookAhead = true; zzState = 69; break zzForNext;
+                case 45: zzIsFinal = true; zzNoLookAhead = true; zzState = 74; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 32:
+            case 33:
               switch (zzInput) {
-                case 46: zzIsFinal = true; zzNoLookAhead = true; zzState = 70; break zzForNext;
+                case 46: zzIsFinal = true; zzNoLookAhead = true; zzState = 75; break zzForNext;
                 default: break zzForAction;
               }
 
             case 35:
               switch (zzInput) {
-                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 36; break zzForNext;
-                default: break zzForAction;
+                case 1: 
+                case 2: 
+                case 47: 
+                case 48: break zzForAction;
+                default: zzIsFinal = true; break zzForNext;
               }
 
-            case 38:
+            case 36:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzNoLookAhead = true; zzState = 71; break zzForNext;
-                case 25: zzIsFinal = true; zzNoLookAhead = true; zzState = 72; break zzForNext;
-                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 73; break zzForNext;
-                case 48: zzIsFinal = true; zzNoLookAhead = true; zzState = 74; break zzForNext;
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 37; break zzForNext;
                 default: break zzForAction;
               }
 
             case 39:
+              switch (zzInput) {
+                case 24: zzIsFinal = true; zzNoLookAhead = true; zzState = 76; break zzForNext;
+                case 25: zzIsFinal = true; zzNoLookAhead = true; zzState = 77; break zzForNext;
+                case 47: zzIsFinal = true; zzNoLookAhead = true; zzState = 78; break zzForNext;
+                case 48: zzIsFinal = true; zzNoLookAhead = true; zzState = 79; break zzForNext;
+                default: break zzForAction;
+              }
+
+            case 40:
+              switch (zzInput) {
+                case 1: 
+                case 2: 
+                case 12: break zzForAction;
+                default: zzIsFinal = true; break zzForNext;
+              }
+
+            case 41:
+              switch (zzInput) {
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 42; break zzForNext;
+                default: break zzForAction;
+              }
+
+            case 43:
+              switch (zzInput) {
+                case 13: zzIsFinal = true; zzNoLookAhead = true; zzState = 80; break zzForNext;
+                default: break zzForAction;
+              }
+
+            case 44:
               switch (zzInput) {
                 case 3: 
                 case 5: zzIsFinal = true; break zzForNext;
                 case 9: 
-                case 29: zzState = 75; break zzForNext;
+                case 29: zzState = 81; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 40:
+            case 45:
               switch (zzInput) {
                 case 3: 
                 case 4: 
@@ -1031,34 +1071,28 @@ public class Lexer extends BaseLexer {
                 case 29: 
                 case 34: 
                 case 35: 
-                case 38: zzIsFinal = true; zzState = 76; break zzForNext;
+                case 38: zzIsFinal = true; zzState = 82; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 41:
+            case 46:
               switch (zzInput) {
-                case 8: zzIsFinal = true; zzState = 39; break zzForNext;
+                case 8: zzIsFinal = true; zzState = 44; break zzForNext;
                 case 3: 
                 case 5: break zzForNext;
                 default: break zzForAction;
               }
 
-            case 42:
-              switch (zzInput) {
-                case 12: zzState = 77; break zzForNext;
-                default: break zzForNext;
-              }
-
-            case 43:
+            case 48:
               switch (zzInput) {
-                case 1: zzIsFinal = true; zzState = 3; break zzForNext;
-                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 4; break zzForNext;
+                case 1: zzIsFinal = true; zzState = 4; break zzForNext;
+                case 2: zzIsFinal = true; zzNoLookAhead = true; zzState = 5; break zzForNext;
                 default: break zzForNext;
               }
 
-            case 48:
+            case 53:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 78; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 83; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1076,12 +1110,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 49:
+            case 54:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 79; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 84; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1099,10 +1133,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 50:
+            case 55:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -1121,12 +1155,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 51:
+            case 56:
               switch (zzInput) {
-                case 28: zzIsFinal = true; zzState = 80; break zzForNext;
+                case 28: zzIsFinal = true; zzState = 85; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1144,12 +1178,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 52:
+            case 57:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 81; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 86; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1167,12 +1201,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 53:
+            case 58:
               switch (zzInput) {
-                case 33: zzIsFinal = true; zzState = 82; break zzForNext;
+                case 33: zzIsFinal = true; zzState = 87; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1190,12 +1224,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 54:
+            case 59:
               switch (zzInput) {
-                case 28: zzIsFinal = true; zzState = 83; break zzForNext;
+                case 28: zzIsFinal = true; zzState = 88; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1213,12 +1247,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 55:
+            case 60:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 84; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 89; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1236,12 +1270,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 56:
+            case 61:
               switch (zzInput) {
-                case 21: zzIsFinal = true; zzState = 85; break zzForNext;
+                case 21: zzIsFinal = true; zzState = 90; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1259,12 +1293,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 57:
+            case 62:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 86; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 91; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1282,12 +1316,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 58:
+            case 63:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 87; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 92; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1305,12 +1339,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 59:
+            case 64:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 88; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 93; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1328,12 +1362,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 60:
+            case 65:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 89; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 94; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1351,13 +1385,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 61:
+            case 66:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 90; break zzForNext;
-                case 35: zzIsFinal = true; zzState = 91; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 95; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 96; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1375,13 +1409,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 62:
+            case 67:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 92; break zzForNext;
-                case 44: zzIsFinal = true; zzState = 93; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 97; break zzForNext;
+                case 44: zzIsFinal = true; zzState = 98; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1399,12 +1433,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 63:
+            case 68:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 94; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 99; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1422,12 +1456,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 64:
+            case 69:
               switch (zzInput) {
-                case 35: zzIsFinal = true; zzState = 95; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 100; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1445,12 +1479,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 65:
+            case 70:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 96; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 101; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1468,12 +1502,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 66:
+            case 71:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 97; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 102; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1491,12 +1525,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 67:
+            case 72:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 98; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 103; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1514,12 +1548,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 68:
+            case 73:
               switch (zzInput) {
-                case 35: zzIsFinal = true; zzState = 99; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 104; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1537,18 +1571,18 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 75:
+            case 81:
               switch (zzInput) {
                 case 3: 
-                case 5: zzIsFinal = true; zzState = 100; break zzForNext;
-                case 7: zzState = 101; break zzForNext;
+                case 5: zzIsFinal = true; zzState = 105; break zzForNext;
+                case 7: zzState = 106; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 76:
+            case 82:
               switch (zzInput) {
                 case 3: 
                 case 4: 
@@ -1563,16 +1597,9 @@ public class Lexer extends BaseLexer {
                 default: break zzForAction;
               }
 
-            case 77:
-              switch (zzInput) {
-                case 12: break zzForNext;
-                case 13: zzIsFinal = true; zzState = 102; break zzForNext;
-                default: zzState = 42; break zzForNext;
-              }
-
-            case 78:
+            case 83:
               switch (zzInput) {
-                case 23: zzIsFinal = true; zzState = 103; break zzForNext;
+                case 23: zzIsFinal = true; zzState = 107; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1590,10 +1617,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 79:
+            case 84:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -1612,12 +1639,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 80:
+            case 85:
               switch (zzInput) {
-                case 26: zzIsFinal = true; zzState = 104; break zzForNext;
+                case 26: zzIsFinal = true; zzState = 108; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1635,12 +1662,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 81:
+            case 86:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 105; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 109; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1658,10 +1685,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 82:
+            case 87:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -1680,12 +1707,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 83:
+            case 88:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 106; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 110; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1703,12 +1730,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 84:
+            case 89:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 107; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 111; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1726,12 +1753,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 85:
+            case 90:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 108; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 112; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1749,12 +1776,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 86:
+            case 91:
               switch (zzInput) {
-                case 35: zzIsFinal = true; zzState = 109; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 113; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1772,12 +1799,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 87:
+            case 92:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 110; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 114; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1795,12 +1822,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 88:
+            case 93:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 111; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 115; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1818,12 +1845,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 89:
+            case 94:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 112; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 116; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1841,12 +1868,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 90:
+            case 95:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 113; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 117; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1864,12 +1891,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 91:
+            case 96:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 114; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 118; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1887,12 +1914,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 92:
+            case 97:
               switch (zzInput) {
-                case 28: zzIsFinal = true; zzState = 115; break zzForNext;
+                case 28: zzIsFinal = true; zzState = 119; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1910,12 +1937,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 93:
+            case 98:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 116; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 120; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1933,12 +1960,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 94:
+            case 99:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 117; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 121; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1956,12 +1983,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 95:
+            case 100:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 118; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 122; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -1979,10 +2006,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 96:
+            case 101:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2001,12 +2028,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 97:
+            case 102:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 119; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 123; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2024,12 +2051,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 98:
+            case 103:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 120; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 124; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2047,12 +2074,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 99:
+            case 104:
               switch (zzInput) {
-                case 23: zzIsFinal = true; zzState = 121; break zzForNext;
+                case 23: zzIsFinal = true; zzState = 125; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2070,30 +2097,24 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 100:
+            case 105:
               switch (zzInput) {
                 case 3: 
                 case 5: zzIsFinal = true; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 101:
+            case 106:
               switch (zzInput) {
                 case 3: 
-                case 5: zzIsFinal = true; zzState = 100; break zzForNext;
+                case 5: zzIsFinal = true; zzState = 105; break zzForNext;
                 default: break zzForAction;
               }
 
-            case 102:
-              switch (zzInput) {
-                case 12: zzState = 77; break zzForNext;
-                default: zzState = 42; break zzForNext;
-              }
-
-            case 103:
+            case 107:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2112,12 +2133,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 104:
+            case 108:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 122; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 126; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2135,10 +2156,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 105:
+            case 109:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2157,10 +2178,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 106:
+            case 110:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2179,10 +2200,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 107:
+            case 111:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2201,10 +2222,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 108:
+            case 112:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2223,12 +2244,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 109:
+            case 113:
               switch (zzInput) {
-                case 39: zzIsFinal = true; zzState = 123; break zzForNext;
+                case 39: zzIsFinal = true; zzState = 127; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2246,12 +2267,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 110:
+            case 114:
               switch (zzInput) {
-                case 27: zzIsFinal = true; zzState = 124; break zzForNext;
+                case 27: zzIsFinal = true; zzState = 128; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2269,10 +2290,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 111:
+            case 115:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2291,12 +2312,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 112:
+            case 116:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 125; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 129; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2314,12 +2335,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 113:
+            case 117:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 126; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 130; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2337,12 +2358,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 114:
+            case 118:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 127; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 131; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2360,12 +2381,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 115:
+            case 119:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 128; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 132; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2383,12 +2404,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 116:
+            case 120:
               switch (zzInput) {
-                case 35: zzIsFinal = true; zzState = 129; break zzForNext;
+                case 35: zzIsFinal = true; zzState = 133; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2406,12 +2427,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 117:
+            case 121:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 130; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 134; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2429,12 +2450,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 118:
+            case 122:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 131; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 135; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2452,12 +2473,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 119:
+            case 123:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 132; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 136; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2475,12 +2496,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 120:
+            case 124:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 133; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 137; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2498,13 +2519,13 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 121:
+            case 125:
               switch (zzInput) {
-                case 42: zzIsFinal = true; zzState = 134; break zzForNext;
-                case 43: zzIsFinal = true; zzState = 135; break zzForNext;
+                case 42: zzIsFinal = true; zzState = 138; break zzForNext;
+                case 43: zzIsFinal = true; zzState = 139; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2522,12 +2543,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 122:
+            case 126:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 136; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 140; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2545,10 +2566,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 123:
+            case 127:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2567,10 +2588,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 124:
+            case 128:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2589,12 +2610,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 125:
+            case 129:
               switch (zzInput) {
-                case 23: zzIsFinal = true; zzState = 137; break zzForNext;
+                case 23: zzIsFinal = true; zzState = 141; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2612,12 +2633,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 126:
+            case 130:
               switch (zzInput) {
-                case 32: zzIsFinal = true; zzState = 138; break zzForNext;
+                case 32: zzIsFinal = true; zzState = 142; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2635,12 +2656,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 127:
+            case 131:
               switch (zzInput) {
-                case 34: zzIsFinal = true; zzState = 139; break zzForNext;
+                case 34: zzIsFinal = true; zzState = 143; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2658,12 +2679,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 128:
+            case 132:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 140; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 144; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2681,12 +2702,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 129:
+            case 133:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 141; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 145; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2704,10 +2725,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 130:
+            case 134:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2726,10 +2747,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 131:
+            case 135:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2748,10 +2769,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 132:
+            case 136:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2770,10 +2791,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 133:
+            case 137:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2792,12 +2813,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 134:
+            case 138:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 142; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 146; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2815,12 +2836,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 135:
+            case 139:
               switch (zzInput) {
-                case 22: zzIsFinal = true; zzState = 143; break zzForNext;
+                case 22: zzIsFinal = true; zzState = 147; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2838,10 +2859,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 136:
+            case 140:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2860,12 +2881,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 137:
+            case 141:
               switch (zzInput) {
-                case 30: zzIsFinal = true; zzState = 144; break zzForNext;
+                case 30: zzIsFinal = true; zzState = 148; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2883,10 +2904,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 138:
+            case 142:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2905,10 +2926,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 139:
+            case 143:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2927,10 +2948,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 140:
+            case 144:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2949,10 +2970,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 141:
+            case 145:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -2971,12 +2992,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 142:
+            case 146:
               switch (zzInput) {
-                case 25: zzIsFinal = true; zzState = 145; break zzForNext;
+                case 25: zzIsFinal = true; zzState = 149; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -2994,12 +3015,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 143:
+            case 147:
               switch (zzInput) {
-                case 24: zzIsFinal = true; zzState = 146; break zzForNext;
+                case 24: zzIsFinal = true; zzState = 150; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3017,10 +3038,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 144:
+            case 148:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -3039,12 +3060,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 145:
+            case 149:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 147; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 151; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3062,12 +3083,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 146:
+            case 150:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 148; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 152; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3085,12 +3106,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 147:
+            case 151:
               switch (zzInput) {
-                case 32: zzIsFinal = true; zzState = 149; break zzForNext;
+                case 32: zzIsFinal = true; zzState = 153; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3108,10 +3129,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 148:
+            case 152:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -3130,12 +3151,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 149:
+            case 153:
               switch (zzInput) {
-                case 29: zzIsFinal = true; zzState = 150; break zzForNext;
+                case 29: zzIsFinal = true; zzState = 154; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3153,12 +3174,12 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 150:
+            case 154:
               switch (zzInput) {
-                case 31: zzIsFinal = true; zzState = 151; break zzForNext;
+                case 31: zzIsFinal = true; zzState = 155; break zzForNext;
                 case 0: 
                 case 1: 
                 case 2: 
@@ -3176,10 +3197,10 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
-            case 151:
+            case 155:
               switch (zzInput) {
                 case 0: 
                 case 1: 
@@ -3198,7 +3219,7 @@ public class Lexer extends BaseLexer {
                 case 46: 
                 case 47: 
                 case 48: break zzForAction;
-                default: zzIsFinal = true; zzState = 6; break zzForNext;
+                default: zzIsFinal = true; zzState = 7; break zzForNext;
               }
 
             default:
@@ -3220,185 +3241,203 @@ public class Lexer extends BaseLexer {
       zzMarkedPos = zzMarkedPosL;
 
       switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 19: 
+        case 22: 
           { buffer.append('\t');
           }
-        case 45: break;
-        case 25: 
+        case 49: break;
+        case 39: 
+          { return boolConst(false);
+          }
+        case 50: break;
+        case 29: 
           { return keyword(Parser.VOID);
           }
-        case 46: break;
+        case 51: break;
         case 35: 
-          { return boolConst(false);
-          }
-        case 47: break;
-        case 31: 
           { return keyword(Parser.BREAK);
           }
-        case 48: break;
-        case 41: 
+        case 52: break;
+        case 45: 
           { return keyword(Parser.REPEAT);
           }
-        case 49: break;
-        case 20: 
+        case 53: break;
+        case 23: 
           { buffer.append('"');
           }
-        case 50: break;
-        case 33: 
+        case 54: break;
+        case 37: 
           { return keyword(Parser.WHILE);
           }
-        case 51: break;
-        case 30: 
+        case 55: break;
+        case 34: 
           { return keyword(Parser.ELSE);
           }
-        case 52: break;
-        case 32: 
+        case 56: break;
+        case 36: 
           { return keyword(Parser.UNTIL);
           }
-        case 53: break;
+        case 57: break;
         case 4: 
           { return identifier(yytext());
           }
-        case 54: break;
-        case 21: 
+        case 58: break;
+        case 24: 
           { buffer.append('\\');
           }
-        case 55: break;
-        case 28: 
+        case 59: break;
+        case 32: 
           { return keyword(Parser.THIS);
           }
-        case 56: break;
-        case 15: 
+        case 60: break;
+        case 18: 
           { return keyword(Parser.IF);
           }
-        case 57: break;
-        case 11: 
+        case 61: break;
+        case 14: 
           { return operator(Parser.EQUAL);
           }
-        case 58: break;
+        case 62: break;
         case 9: 
           { yybegin(YYINITIAL);
 					  return StringConst(buffer.toString(), sloc);
           }
-        case 59: break;
+        case 63: break;
         case 6: 
           { sloc = getLocation();		  
 					  yybegin(S);
 					  buffer = new StringBuilder();
           }
-        case 60: break;
-        case 29: 
+        case 64: break;
+        case 33: 
           { return keyword(Parser.BOOL);
           }
-        case 61: break;
-        case 36: 
+        case 65: break;
+        case 40: 
           { return keyword(Parser.PRINT);
           }
-        case 62: break;
-        case 22: 
+        case 66: break;
+        case 25: 
+          { yybegin(YYINITIAL);
+          }
+        case 67: break;
+        case 26: 
           { return keyword(Parser.INT);
           }
-        case 63: break;
-        case 12: 
+        case 68: break;
+        case 15: 
           { return operator(Parser.LESS_EQUAL);
           }
-        case 64: break;
-        case 44: 
+        case 69: break;
+        case 48: 
           { return keyword(Parser.READ_INTEGER);
           }
-        case 65: break;
-        case 40: 
+        case 70: break;
+        case 44: 
           { return keyword(Parser.RETURN);
           }
-        case 66: break;
-        case 16: 
+        case 71: break;
+        case 7: 
+          { poll();
+					  buffer.append(yytext());
+          }
+        case 72: break;
+        case 19: 
           { return operator(Parser.AND);
           }
-        case 67: break;
-        case 17: 
+        case 73: break;
+        case 20: 
           { return operator(Parser.OR);
           }
-        case 68: break;
-        case 34: 
+        case 74: break;
+        case 38: 
           { return keyword(Parser.CLASS);
           }
-        case 69: break;
-        case 10: 
+        case 75: break;
+        case 12: 
           { return doubleConst(yytext());
           }
-        case 70: break;
-        case 7: 
+        case 76: break;
+        case 10: 
           { buffer.append(yytext());
           }
-        case 71: break;
-        case 13: 
+        case 77: break;
+        case 16: 
           { return operator(Parser.GREATER_EQUAL);
           }
-        case 72: break;
-        case 18: 
+        case 78: break;
+        case 21: 
           { buffer.append('\n');
           }
-        case 73: break;
-        case 39: 
+        case 79: break;
+        case 43: 
           { return keyword(Parser.STATIC);
           }
-        case 74: break;
-        case 26: 
+        case 80: break;
+        case 30: 
           { return keyword(Parser.NULL);
           }
-        case 75: break;
-        case 37: 
+        case 81: break;
+        case 41: 
           { return keyword(Parser.DOUBLE);
           }
-        case 76: break;
-        case 14: 
+        case 82: break;
+        case 11: 
+          { poll();
+          }
+        case 83: break;
+        case 17: 
           { return operator(Parser.NOT_EQUAL);
           }
-        case 77: break;
-        case 42: 
+        case 84: break;
+        case 46: 
           { return keyword(Parser.EXTENDS);
           }
-        case 78: break;
+        case 85: break;
+        case 13: 
+          { cloc = getLocation();
+					  yybegin(C);
+          }
+        case 86: break;
         case 5: 
           { return operator((int)yycharat(0));
           }
-        case 79: break;
-        case 27: 
+        case 87: break;
+        case 31: 
           { return boolConst(true);
           }
-        case 80: break;
-        case 43: 
+        case 88: break;
+        case 47: 
           { return keyword(Parser.READ_LINE);
           }
-        case 81: break;
-        case 24: 
+        case 89: break;
+        case 28: 
           { return keyword(Parser.FOR);
           }
-        case 82: break;
+        case 90: break;
         case 1: 
           { issueError(new UnrecogCharError(getLocation(), yycharat(0)));
           }
-        case 83: break;
+        case 91: break;
         case 2: 
           { /* Just ignore */
           }
-        case 84: break;
-        case 23: 
+        case 92: break;
+        case 27: 
           { return keyword(Parser.NEW);
           }
-        case 85: break;
-        case 38: 
+        case 93: break;
+        case 42: 
           { return keyword(Parser.STRING);
           }
-        case 86: break;
+        case 94: break;
         case 3: 
           { return intConst(yytext());
           }
-        case 87: break;
+        case 95: break;
         case 8: 
           { issueError(new NewlineInStrError(sloc, MiscUtils.quote(buffer.toString())));
           }
-        case 88: break;
+        case 96: break;
         default: 
           if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
             zzAtEOF = true;
@@ -3408,7 +3447,12 @@ public class Lexer extends BaseLexer {
               issueError(new UntermStrError(sloc, MiscUtils.quote(buffer.toString())));
 					  yybegin(YYINITIAL);
             }
-            case 153: break;
+            case 157: break;
+            case C: {
+              issueError(new UntermCommentError(cloc));
+					  yybegin(YYINITIAL);
+            }
+            case 158: break;
             default:
               { return 0; }
             }
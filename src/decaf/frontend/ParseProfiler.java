@@ -0,0 +1,195 @@
+package decaf.frontend;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 语法分析的统计（-parseprof）<br>
+ * 通过BaseParser.ReductionListener统计每个产生式的归约次数，并把从一次归约到下一次归约或读入
+ * 下一个单词之间的时间（即该产生式的动作与随后的状态转移）记在该产生式上，读入单词
+ * 之后到第一次归约之间的时间记在“(shift)”上，各项之和即语法分析的时间；记录
+ * 状态栈与值栈的最大深度；按2的幂分段统计相邻两次读入单词之间语法分析所用的时间，
+ * 不含词法分析
+ */
+public final class ParseProfiler implements BaseParser.ReductionListener {
+
+	private static final Comparator<Rule> BY_TIME = new Comparator<Rule>() {
+
+		@Override
+		public int compare(Rule o1, Rule o2) {
+			return Long.compare(o2.nanos, o1.nanos);
+		}
+
+	};
+
+	/**
+	 * 最小的一段为256纳秒以下，每段加倍
+	 */
+	private static final int FIRST_BUCKET_SHIFT = 8;
+
+	private final Map<String, Rule> rules = new HashMap<String, Rule>();
+
+	private final Rule shift = new Rule("(shift)");
+
+	private final long[] gaps = new long[40];
+
+	private Parser parser;
+
+	/**
+	 * 之后的时间记在它上面：上一次归约的产生式，或读入单词后的shift，
+	 * 词法分析时为null
+	 */
+	private Rule pending;
+
+	private long last;
+
+	private long lastToken;
+
+	private long tokens;
+
+	private long reductions;
+
+	private long lexNanos;
+
+	private long parseNanos;
+
+	private int maxStates;
+
+	private int maxValues;
+
+	private int maxCapacity;
+
+	/**
+	 * 由BaseParser.setProfiler调用
+	 */
+	void attach(Parser parser) {
+		this.parser = parser;
+		maxCapacity = Math.max(maxCapacity, parser.statestk.length);
+		pending = null;
+		lastToken = -1;
+	}
+
+	@Override
+	public boolean onReduce(String rule) {
+		long now = System.nanoTime();
+		charge(now);
+		Rule r = rules.get(rule);
+		if (r == null) {
+			r = new Rule(rule);
+			rules.put(rule, r);
+		}
+		r.count++;
+		reductions++;
+		pending = r;
+		sampleStacks();
+		return true;
+	}
+
+	/**
+	 * 词法分析前调用
+	 */
+	void beforeLex() {
+		long now = System.nanoTime();
+		charge(now);
+		pending = null;
+		if (lastToken >= 0) {
+			long gap = now - lastToken;
+			parseNanos += gap;
+			int bucket = 64 - Long.numberOfLeadingZeros(gap >>> FIRST_BUCKET_SHIFT);
+			gaps[Math.min(bucket, gaps.length - 1)]++;
+			sampleStacks();
+		}
+	}
+
+	/**
+	 * 词法分析后调用
+	 */
+	void afterLex() {
+		long now = System.nanoTime();
+		lexNanos += now - last;
+		tokens++;
+		shift.count++;
+		pending = shift;
+		last = lastToken = now;
+	}
+
+	private void charge(long now) {
+		if (pending != null) {
+			pending.nanos += now - last;
+		}
+		last = now;
+	}
+
+	private void sampleStacks() {
+		maxStates = Math.max(maxStates, parser.stateptr + 1);
+		maxValues = Math.max(maxValues, parser.valptr + 1);
+		maxCapacity = Math.max(maxCapacity, parser.statestk.length);
+	}
+
+	public void report(PrintStream out) {
+		out.printf("parse profile: %d tokens, %d reductions, "
+				+ "lexing %.3f ms, parsing %.3f ms%n", tokens, reductions,
+				lexNanos / 1e6, parseNanos / 1e6);
+		out.printf("    max stack depth: %d states, %d values "
+				+ "(initial capacity %d, reached %d)%n", maxStates, maxValues,
+				Parser.YYSTACKSIZE, maxCapacity);
+
+		List<Rule> sorted = new ArrayList<Rule>(rules.values());
+		if (shift.count > 0) {
+			sorted.add(shift);
+		}
+		Collections.sort(sorted, BY_TIME);
+		out.printf("    %10s %10s %8s  %s%n", "count", "time ms", "avg ns",
+				"production");
+		for (Rule r : sorted) {
+			out.printf("    %10d %10.3f %8d  %s%n", r.count, r.nanos / 1e6,
+					r.nanos / r.count, r.name);
+		}
+
+		out.println("    time between tokens:");
+		long most = 1;
+		int lastBucket = 0;
+		for (int i = 0; i < gaps.length; i++) {
+			most = Math.max(most, gaps[i]);
+			if (gaps[i] > 0) {
+				lastBucket = i;
+			}
+		}
+		for (int i = 0; i <= lastBucket; i++) {
+			StringBuilder bar = new StringBuilder();
+			for (long k = gaps[i] * 40 / most; k > 0; k--) {
+				bar.append('#');
+			}
+			out.printf("    %12s %10d %s%n", "< "
+					+ duration(1L << (FIRST_BUCKET_SHIFT + i)), gaps[i], bar);
+		}
+	}
+
+	private static String duration(long nanos) {
+		if (nanos < 1000) {
+			return nanos + " ns";
+		}
+		if (nanos < 1000000) {
+			return nanos / 1000 + " us";
+		}
+		return nanos / 1000000 + " ms";
+	}
+
+	private static final class Rule {
+
+		private final String name;
+
+		private long count;
+
+		private long nanos;
+
+		private Rule(String name) {
+			this.name = name;
+		}
+	}
+}
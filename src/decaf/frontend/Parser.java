@@ -632,7 +632,17 @@ final static String yyrule[] = {
 		addReduceListener(this);
 		yyparse();
 	}
-//#line 575 "Parser.java"
+
+	void dispatchReductions() {
+		addReduceListener(new ReduceListener() {
+
+			public boolean onReduce(String rule) {
+				return reduced(rule);
+			}
+
+		});
+	}
+//#line 585 "Parser.java"
 //###############################################################
 // method: yylexdebug : check lexer state
 //###############################################################
@@ -792,14 +802,14 @@ break;
 case 2:
 //#line 59 "Parser.y"
 {
-						yyval.clist.add(val_peek(0).cdef);
+						addClass(yyval.clist, val_peek(0).cdef);
 					}
 break;
 case 3:
 //#line 63 "Parser.y"
 {
                 		yyval.clist = new ArrayList<Tree.ClassDef>();
-                		yyval.clist.add(val_peek(0).cdef);
+                		addClass(yyval.clist, val_peek(0).cdef);
                 	}
 break;
 case 5:
@@ -1242,7 +1252,7 @@ case 88:
 						yyval.stmt = new Print(val_peek(1).elist, val_peek(3).loc);
 					}
 break;
-//#line 1180 "Parser.java"
+//#line 1190 "Parser.java"
 //########## END OF USER-SUPPLIED ACTIONS ##########
     }//switch
     //#### Now let's reduce... ####
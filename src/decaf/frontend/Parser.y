@@ -57,12 +57,12 @@ Program			:	ClassList
 
 ClassList       :	ClassList ClassDef
 					{
-						$$.clist.add($2.cdef);
+						addClass($$.clist, $2.cdef);
 					}
                 |	ClassDef
                 	{
                 		$$.clist = new ArrayList<Tree.ClassDef>();
-                		$$.clist.add($1.cdef);
+                		addClass($$.clist, $1.cdef);
                 	}
                 ;
 
@@ -459,4 +459,14 @@ PrintStmt       :	PRINT '(' ExprList ')'
     public void diagnose() {
 		addReduceListener(this);
 		yyparse();
+	}
+
+	void dispatchReductions() {
+		addReduceListener(new ReduceListener() {
+
+			public boolean onReduce(String rule) {
+				return reduced(rule);
+			}
+
+		});
 	}
\ No newline at end of file
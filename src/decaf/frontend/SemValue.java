@@ -58,6 +58,11 @@ public class SemValue {
 
 	public LValue lvalue;
 
+	/**
+	 * 语法树的嵌套深度，设置了预算时由BaseParser在归约时计算，单词为0
+	 */
+	public int depth;
+
 	/**
 	 * 创建一个关键字的语义值
 	 * 
@@ -0,0 +1,23 @@
+package decaf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Driver.checkPoint，包括输出已发现的错误
+ */
+@Name("decaf.CheckPoint")
+@Label("Check Point")
+@Category("Decaf")
+public final class CheckPointEvent extends Event {
+
+	@Label("Source")
+	public String file;
+
+	@Label("Errors")
+	@Description("Errors reported so far in this source")
+	public int errors;
+}
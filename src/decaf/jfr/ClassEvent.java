@@ -0,0 +1,27 @@
+package decaf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * BuildSym为一个类建立符号
+ */
+@Name("decaf.BuildClass")
+@Label("Build Class Symbols")
+@Category("Decaf")
+public final class ClassEvent extends Event {
+
+	@Label("Class")
+	public String className;
+
+	@Label("Nodes")
+	@Description("Syntax tree nodes in the class")
+	public int nodes;
+
+	@Label("Errors")
+	@Description("Errors found in the class")
+	public int errors;
+}
@@ -0,0 +1,30 @@
+package decaf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * TypeCheck检查一个方法体
+ */
+@Name("decaf.CheckMethod")
+@Label("Check Method")
+@Category("Decaf")
+public final class MethodEvent extends Event {
+
+	@Label("Class")
+	public String className;
+
+	@Label("Method")
+	public String methodName;
+
+	@Label("Nodes")
+	@Description("Syntax tree nodes in the method")
+	public int nodes;
+
+	@Label("Errors")
+	@Description("Errors found in the method")
+	public int errors;
+}
@@ -0,0 +1,26 @@
+package decaf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Driver.compile中的一个阶段，从上一阶段结束到本阶段结束
+ */
+@Name("decaf.Phase")
+@Label("Compiler Phase")
+@Category("Decaf")
+public final class PhaseEvent extends Event {
+
+	@Label("Source")
+	public String file;
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Errors")
+	@Description("Errors reported so far in this source")
+	public int errors;
+}
@@ -0,0 +1,192 @@
+package decaf.scope;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import decaf.Location;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Variable;
+import decaf.type.ArrayType;
+import decaf.type.ClassType;
+import decaf.type.Type;
+
+/**
+ * 紧凑的二进制格式<br>
+ * 以"DSYM"与版本号2开头，随后是若干记录，每个记录以一个字节的标记开始，以标记0
+ * 结束全部内容。整数都是无符号LEB128变长整数，可能为-1的（行号、列号、槽号）加1后
+ * 写出。字符串写为字符串表中的编号，0表示没有；编号恰为表长加1时是新的字符串，
+ * 其后紧跟UTF-8的字节数与内容。
+ *
+ * <pre>
+ * 1 作用域：kind（Scope.Kind的序号） owner 行 列
+ * 2 作用域结束
+ * 3 类：名字 父类 行 列
+ * 4 函数：名字 标志（1为静态，2为主函数） 返回类型 参数个数 各参数类型 行 列
+ * 5 变量：名字 类型 槽号 行 列
+ * </pre>
+ *
+ * 类型按结构写出，以一个字节的标记开始：
+ *
+ * <pre>
+ * 1 基本类型：名字（int、double、bool、string、void）
+ * 2 类类型：类名
+ * 3 数组类型：元素类型
+ * </pre>
+ *
+ * 全局作用域的位置为0 0
+ */
+public final class BinaryExporter extends ScopeExporter {
+
+	private static final byte END_OF_FILE = 0;
+
+	private static final byte SCOPE = 1;
+
+	private static final byte END_SCOPE = 2;
+
+	private static final byte CLASS = 3;
+
+	private static final byte FUNCTION = 4;
+
+	private static final byte VARIABLE = 5;
+
+	private static final byte BASE_TYPE = 1;
+
+	private static final byte CLASS_TYPE = 2;
+
+	private static final byte ARRAY_TYPE = 3;
+
+	private final PrintStream out;
+
+	private final byte[] buf = new byte[8192];
+
+	private int pos;
+
+	private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+	public BinaryExporter(PrintStream out) {
+		this.out = out;
+		for (byte b : "DSYM".getBytes(StandardCharsets.US_ASCII)) {
+			writeByte(b);
+		}
+		writeByte(2);
+	}
+
+	@Override
+	protected void beginScope(Scope.Kind kind, String owner, Location location) {
+		writeByte(SCOPE);
+		writeInt(kind.ordinal());
+		writeString(owner);
+		writeLocation(location);
+	}
+
+	@Override
+	protected void endScope() {
+		writeByte(END_SCOPE);
+	}
+
+	@Override
+	protected void classSymbol(Class c) {
+		writeByte(CLASS);
+		writeString(c.getName());
+		writeString(c.getParent() == null ? null : c.getParent().getName());
+		writeLocation(c.getLocation());
+	}
+
+	@Override
+	protected void function(Function f) {
+		writeByte(FUNCTION);
+		writeString(f.getName());
+		writeInt((f.isStatik() ? 1 : 0) | (f.isMain() ? 2 : 0));
+		writeType(f.getReturnType());
+		List<Type> params = f.getType().getArgList();
+		writeInt(params.size());
+		for (Type t : params) {
+			writeType(t);
+		}
+		writeLocation(f.getLocation());
+	}
+
+	@Override
+	protected void variable(Variable v) {
+		writeByte(VARIABLE);
+		writeString(v.getName());
+		writeType(v.getType());
+		writeInt(v.getOffset() + 1);
+		writeLocation(v.getLocation());
+	}
+
+	@Override
+	protected void finish() {
+		writeByte(END_OF_FILE);
+		drain();
+		out.flush();
+	}
+
+	private void writeType(Type t) {
+		while (t.isArrayType()) {
+			writeByte(ARRAY_TYPE);
+			t = ((ArrayType) t).getElementType();
+		}
+		if (t.isClassType()) {
+			writeByte(CLASS_TYPE);
+			writeString(((ClassType) t).getSymbol().getName());
+		} else {
+			writeByte(BASE_TYPE);
+			writeString(t.toString());
+		}
+	}
+
+	private void writeLocation(Location location) {
+		if (location == null) {
+			writeInt(0);
+			writeInt(0);
+		} else {
+			writeInt(location.getLine() + 1);
+			writeInt(location.getColumn() + 1);
+		}
+	}
+
+	private void writeString(String s) {
+		if (s == null) {
+			writeInt(0);
+			return;
+		}
+		Integer id = strings.get(s);
+		if (id != null) {
+			writeInt(id);
+			return;
+		}
+		id = strings.size() + 1;
+		strings.put(s, id);
+		writeInt(id);
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeInt(bytes.length);
+		for (byte b : bytes) {
+			writeByte(b);
+		}
+	}
+
+	private void writeInt(int n) {
+		while ((n & ~0x7f) != 0) {
+			writeByte((n & 0x7f) | 0x80);
+			n >>>= 7;
+		}
+		writeByte(n);
+	}
+
+	private void writeByte(int b) {
+		if (pos == buf.length) {
+			drain();
+		}
+		buf[pos++] = (byte) b;
+	}
+
+	private void drain() {
+		out.write(buf, 0, pos);
+		pos = 0;
+	}
+}
@@ -1,6 +1,10 @@
 package decaf.scope;
 
-import java.util.TreeSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import decaf.symbol.Class;
 import decaf.symbol.Function;
@@ -11,6 +15,26 @@ public class ClassScope extends Scope {
 
 	private Class owner;
 
+	/**
+	 * 展平后的成员表（继承的与自己的），覆盖已解析，由BuildSym在检查覆盖时建立
+	 */
+	private Map<String, Symbol> members;
+
+	/**
+	 * 非静态方法按虚表位置排列，位置即Function.getOffset()
+	 */
+	private List<Function> virtualTable;
+
+	/**
+	 * 自己的成员按位置排序（位置相同的只留先声明的），seal之后才有
+	 */
+	private Symbol[] sorted;
+
+	/**
+	 * 按需建立成员时使用，第一次查找成员之前执行一次，参见QueryEngine
+	 */
+	private Runnable loader;
+
 	public ClassScope(Class owner) {
 		super();
 		this.owner = owner;
@@ -26,6 +50,30 @@ public class ClassScope extends Scope {
 		return p == null ? null : p.getAssociatedScope();
 	}
 
+	public void setLoader(Runnable loader) {
+		this.loader = loader;
+	}
+
+	private void load() {
+		if (loader != null) {
+			Runnable l = loader;
+			loader = null;
+			l.run();
+		}
+	}
+
+	@Override
+	public Symbol lookup(String name) {
+		load();
+		return super.lookup(name);
+	}
+
+	@Override
+	public Iterator<Symbol> iterator() {
+		load();
+		return super.iterator();
+	}
+
 	@Override
 	public Kind getKind() {
 		return Kind.CLASS;
@@ -35,12 +83,41 @@ public class ClassScope extends Scope {
 		return owner;
 	}
 
+	/**
+	 * 成员不再改变之后由BuildSym调用，求出输出用的成员次序
+	 */
+	public void seal() {
+		sorted = sortByLocation();
+	}
+
+	private Symbol[] sortByLocation() {
+		Symbol[] ss = new Symbol[size()];
+		int n = 0;
+		for (Symbol symbol : this) {
+			ss[n++] = symbol;
+		}
+		Arrays.sort(ss, Symbol.LOCATION_COMPARATOR);
+		// 与TreeSet相同，位置相同的符号只保留先加入的
+		int k = 0;
+		for (int i = 0; i < n; i++) {
+			if (k == 0
+					|| Symbol.LOCATION_COMPARATOR.compare(ss[k - 1], ss[i]) != 0) {
+				ss[k++] = ss[i];
+			}
+		}
+		return k == n ? ss : Arrays.copyOf(ss, k);
+	}
+
+	/**
+	 * @return 按位置排序的成员，即输出的次序
+	 */
+	Symbol[] getSortedMembers() {
+		return sorted != null ? sorted : sortByLocation();
+	}
+
 	@Override
 	public void printTo(IndentPrintWriter pw) {
-		TreeSet<Symbol> ss = new TreeSet<Symbol>(Symbol.LOCATION_COMPARATOR);
-		for (Symbol symbol : symbols.values()) {
-			ss.add(symbol);
-		}
+		Symbol[] ss = getSortedMembers();
 		pw.println("CLASS SCOPE OF '" + owner.getName() + "':");
 		pw.incIndent();
 		for (Symbol symbol : ss) {
@@ -67,13 +144,61 @@ public class ClassScope extends Scope {
 		return false;
 	}
 
+	/**
+	 * 设置展平后的成员表与虚表，此后lookupVisible只需查一次表
+	 */
+	public void setMembers(Map<String, Symbol> members,
+			List<Function> virtualTable) {
+		this.members = Collections.unmodifiableMap(members);
+		this.virtualTable = Collections.unmodifiableList(virtualTable);
+	}
+
+	/**
+	 * @return 展平后的成员表，尚未建立时返回null
+	 */
+	public Map<String, Symbol> getMembers() {
+		load();
+		return members;
+	}
+
+	public List<Function> getVirtualTable() {
+		load();
+		return virtualTable;
+	}
+
 	public Symbol lookupVisible(String name) {
+		load();
+		Symbol symbol = null;
+		int probes = 0;
+		if (members != null) {
+			probes = 1;
+			symbol = members.get(name);
+		} else {
+			for (ClassScope cs = this; cs != null && symbol == null; cs = cs
+					.getParentScope()) {
+				probes++;
+				symbol = cs.lookup(name);
+			}
+		}
+		LookupStats stats = LookupStats.active();
+		if (stats != null) {
+			stats.record(LookupStats.Op.VISIBLE, probes, symbol == null ? -1
+					: Math.max(0, distanceTo(symbol.getScope())));
+		}
+		return symbol;
+	}
+
+	/**
+	 * @return 从本类到祖先类ancestor的作用域需要经过的继承层数，不是祖先时返回-1
+	 */
+	int distanceTo(Scope ancestor) {
+		int hops = 0;
 		for (ClassScope cs = this; cs != null; cs = cs.getParentScope()) {
-			Symbol symbol = cs.lookup(name);
-			if (symbol != null) {
-				return symbol;
+			if (cs == ancestor) {
+				return hops;
 			}
+			hops++;
 		}
-		return null;
+		return -1;
 	}
 }
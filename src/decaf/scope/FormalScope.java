@@ -11,6 +11,11 @@ public class FormalScope extends Scope {
 
 	private Block astNode;
 
+	/**
+	 * releaseBody之后代替astNode
+	 */
+	private LocalScope bodyScope;
+
 	public FormalScope(Function owner, Block astNode) {
 		this.owner = owner;
 		this.astNode = astNode;
@@ -30,14 +35,35 @@ public class FormalScope extends Scope {
 		return true;
 	}
 
+	/**
+	 * 声明时没有方法体（逐个类分析时第一遍丢弃了方法体）时，由第二遍补上
+	 */
+	public void setBody(Block astNode) {
+		this.astNode = astNode;
+	}
+
+	/**
+	 * 方法体的作用域建立之后可以调用，此后不再引用语法树
+	 */
+	public void releaseBody() {
+		if (astNode != null) {
+			bodyScope = astNode.associatedScope;
+			astNode = null;
+		}
+	}
+
+	public LocalScope getBodyScope() {
+		return astNode != null ? astNode.associatedScope : bodyScope;
+	}
+
 	@Override
 	public void printTo(IndentPrintWriter pw) {
 		pw.println("FORMAL SCOPE OF '" + owner.getName() + "':");
 		pw.incIndent();
-		for (Symbol symbol : symbols.values()) {
+		for (Symbol symbol : this) {
 			pw.println(symbol);
 		}
-		astNode.associatedScope.printTo(pw);
+		getBodyScope().printTo(pw);
 		pw.decIndent();
 	}
 }
@@ -1,8 +1,14 @@
 package decaf.scope;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
 import decaf.symbol.Class;
 import decaf.symbol.Symbol;
 import decaf.utils.IndentPrintWriter;
+import decaf.utils.Workers;
 
 public class GlobalScope extends Scope {
 
@@ -18,15 +24,77 @@ public class GlobalScope extends Scope {
 
 	@Override
 	public void printTo(IndentPrintWriter pw) {
+		printTo(pw, 1);
+	}
+
+	/**
+	 * 逐个类输出时使用：输出标题与各个类的符号并增加缩进，此后应依次输出各个类的
+	 * 作用域，最后减少缩进
+	 */
+	public void printHeader(IndentPrintWriter pw) {
+		pw.println("GLOBAL SCOPE:");
+		pw.incIndent();
+		for (Symbol symbol : this) {
+			pw.println(symbol);
+		}
+	}
+
+	/**
+	 * threads大于1时把类按次序分成若干段，各段并行输出到自己的缓冲区，再按全局
+	 * 作用域中的次序拼接，结果与顺序输出相同
+	 */
+	public void printTo(IndentPrintWriter pw, int threads) {
 		pw.println("GLOBAL SCOPE:");
 		pw.incIndent();
-		for (Symbol symbol : symbols.values()) {
+		List<ClassScope> scopes = new ArrayList<ClassScope>(size());
+		for (Symbol symbol : this) {
 			pw.println(symbol);
+			scopes.add(((Class) symbol).getAssociatedScope());
 		}
-		for (Symbol symbol : symbols.values()) {
-			((Class) symbol).getAssociatedScope().printTo(pw);
+		if (threads > 1) {
+			// 每个线程约分得四段，类很多时也不至于任务过多
+			int n = scopes.size();
+			int count = Math.min(n, threads * 4);
+			List<ClassSection> sections = new ArrayList<ClassSection>(count);
+			for (int i = 0; i < count; i++) {
+				sections.add(new ClassSection(scopes.subList(i * n / count,
+						(i + 1) * n / count), pw));
+			}
+			Workers.invokeAll(sections, threads);
+			for (ClassSection section : sections) {
+				pw.printBlock(section.text);
+			}
+		} else {
+			for (ClassScope scope : scopes) {
+				scope.printTo(pw);
+			}
 		}
 		pw.decIndent();
 	}
 
+	private static final class ClassSection implements Callable<Void> {
+
+		private final List<ClassScope> scopes;
+
+		private final StringWriter buffer = new StringWriter();
+
+		private final IndentPrintWriter pw;
+
+		private String text;
+
+		ClassSection(List<ClassScope> scopes, IndentPrintWriter parent) {
+			this.scopes = scopes;
+			this.pw = parent.fork(buffer);
+		}
+
+		@Override
+		public Void call() {
+			for (ClassScope scope : scopes) {
+				scope.printTo(pw);
+			}
+			pw.flush();
+			text = buffer.toString();
+			return null;
+		}
+	}
 }
@@ -1,16 +1,28 @@
 package decaf.scope;
 
-import decaf.tree.Tree;
-import decaf.tree.Tree.Block;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import decaf.Location;
 import decaf.symbol.Symbol;
 import decaf.utils.IndentPrintWriter;
 
 public class LocalScope extends Scope {
 
-	private Block node;
+	/**
+	 * 直接作为语句出现在本语句块中的语句块的作用域，按出现次序，由建立作用域的遍加入。
+	 * 输出时只需要它们，不必再引用语法树
+	 */
+	private List<LocalScope> children = Collections.emptyList();
+
+	/**
+	 * 语句块的位置
+	 */
+	private Location location;
 
-	public LocalScope(Block node) {
-		this.node = node;
+	public LocalScope(Location location) {
+		this.location = location;
 	}
 
 	@Override
@@ -18,18 +30,31 @@ public class LocalScope extends Scope {
 		return Kind.LOCAL;
 	}
 
+	public Location getLocation() {
+		return location;
+	}
+
+	public List<LocalScope> getChildren() {
+		return children;
+	}
+
+	public void addChild(LocalScope child) {
+		if (children.isEmpty()) {
+			children = new ArrayList<LocalScope>(2);
+		}
+		children.add(child);
+	}
+
 	@Override
 	public void printTo(IndentPrintWriter pw) {
 		pw.println("LOCAL SCOPE:");
 		pw.incIndent();
-		for (Symbol symbol : symbols.values()) {
+		for (Symbol symbol : this) {
 			pw.println(symbol);
 		}
 
-		for (Tree s : node.block) {
-			if (s instanceof Block) {
-				((Block) s).associatedScope.printTo(pw);
-			}
+		for (LocalScope child : children) {
+			child.printTo(pw);
 		}
 		pw.decIndent();
 	}
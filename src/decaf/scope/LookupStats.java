@@ -0,0 +1,117 @@
+package decaf.scope;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 名字解析的统计（-lookupprof）<br>
+ * 统计ScopeStack.lookup、lookupBeforeLocation、lookForScope与
+ * ClassScope.lookupVisible的调用次数、每次探查的表（或栈帧、祖先类）的个数、
+ * 未找到的次数，以及找到时的深度：从最内层作用域向外数的作用域个数，继承的成员
+ * 再加上到定义它的祖先类的距离，即逐层查找的符号表需要探查的层数。
+ * ScopeStack内部调用的lookupVisible也计入lookupVisible。<br>
+ * 安装后对所有线程生效，计数可以并发
+ */
+public final class LookupStats {
+
+	enum Op {
+		LOOKUP("lookup"), BEFORE_LOCATION("lookupBeforeLocation"), LOOK_FOR_SCOPE(
+				"lookForScope"), VISIBLE("lookupVisible");
+
+		private final String label;
+
+		private Op(String label) {
+			this.label = label;
+		}
+	}
+
+	/**
+	 * 深度不小于此值的归入最后一段
+	 */
+	private static final int MAX_DEPTH = 16;
+
+	private static volatile LookupStats active;
+
+	private final LongAdder[] calls = new LongAdder[Op.values().length];
+
+	private final LongAdder[] probes = new LongAdder[Op.values().length];
+
+	private final LongAdder[] misses = new LongAdder[Op.values().length];
+
+	private final AtomicLongArray[] depths = new AtomicLongArray[Op.values().length];
+
+	public LookupStats() {
+		for (int i = 0; i < calls.length; i++) {
+			calls[i] = new LongAdder();
+			probes[i] = new LongAdder();
+			misses[i] = new LongAdder();
+			depths[i] = new AtomicLongArray(MAX_DEPTH + 1);
+		}
+	}
+
+	/**
+	 * 安装stats，为null时停止统计
+	 */
+	public static void setActive(LookupStats stats) {
+		active = stats;
+	}
+
+	/**
+	 * @return 正在统计时的实例，否则为null
+	 */
+	static LookupStats active() {
+		return active;
+	}
+
+	/**
+	 * @param depth
+	 *            找到时的深度，未找到时为负数
+	 */
+	void record(Op op, int probeCount, int depth) {
+		int i = op.ordinal();
+		calls[i].increment();
+		probes[i].add(probeCount);
+		if (depth < 0) {
+			misses[i].increment();
+		} else {
+			depths[i].incrementAndGet(Math.min(depth, MAX_DEPTH));
+		}
+	}
+
+	public void report(PrintStream out) {
+		out.println("name resolution:");
+		out.printf("    %-22s %12s %12s %8s %12s%n", "operation", "calls",
+				"probes", "avg", "misses");
+		for (Op op : Op.values()) {
+			int i = op.ordinal();
+			long n = calls[i].sum();
+			long p = probes[i].sum();
+			out.printf("    %-22s %12d %12d %8.2f %12d%n", op.label, n, p,
+					n == 0 ? 0.0 : (double) p / n, misses[i].sum());
+		}
+
+		int deepest = 0;
+		for (Op op : Op.values()) {
+			for (int d = 0; d <= MAX_DEPTH; d++) {
+				if (depths[op.ordinal()].get(d) > 0) {
+					deepest = Math.max(deepest, d);
+				}
+			}
+		}
+		out.println("    hit depth (scopes out from the innermost):");
+		out.printf("    %-8s", "depth");
+		for (Op op : Op.values()) {
+			out.printf(" %20s", op.label);
+		}
+		out.println();
+		for (int d = 0; d <= deepest; d++) {
+			out.printf("    %-8s", d == MAX_DEPTH ? MAX_DEPTH + "+" : String
+					.valueOf(d));
+			for (Op op : Op.values()) {
+				out.printf(" %20d", depths[op.ordinal()].get(d));
+			}
+			out.println();
+		}
+	}
+}
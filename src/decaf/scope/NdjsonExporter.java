@@ -0,0 +1,137 @@
+package decaf.scope;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import decaf.Location;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Variable;
+import decaf.type.ArrayType;
+import decaf.type.ClassType;
+import decaf.type.Type;
+import decaf.utils.MiscUtils;
+
+/**
+ * 每行一个JSON对象，以"record"区分：
+ *
+ * <pre>
+ * {"record":"scope","kind":"global"}
+ * {"record":"class","name":"B","parent":"A","line":5,"column":1}
+ * {"record":"scope","kind":"class","owner":"A","line":1,"column":1}
+ * {"record":"function","name":"f","static":false,"main":false,"returns":{"kind":"int"},
+ *     "params":[{"kind":"class","name":"A"},{"kind":"int"}],"line":2,"column":9}
+ * {"record":"variable","name":"x","type":{"kind":"array","element":{"kind":"int"}},
+ *     "slot":1,"line":3,"column":13}
+ * {"record":"end"}
+ * </pre>
+ *
+ * 记录实际都在一行内；非静态方法的第一个参数为this。没有的owner、parent与位置
+ * 省略。类型按结构写出：基本类型的kind为其名字（int、double、bool、string、void），
+ * 类类型为class并给出类名，数组类型为array并给出元素类型
+ */
+public final class NdjsonExporter extends ScopeExporter {
+
+	private final PrintStream out;
+
+	private final StringBuilder sb = new StringBuilder();
+
+	public NdjsonExporter(PrintStream out) {
+		this.out = out;
+	}
+
+	@Override
+	protected void beginScope(Scope.Kind kind, String owner, Location location) {
+		begin("scope");
+		sb.append(",\"kind\":\"").append(kind.name().toLowerCase()).append('"');
+		if (owner != null) {
+			sb.append(",\"owner\":").append(MiscUtils.quote(owner));
+		}
+		end(location);
+	}
+
+	@Override
+	protected void endScope() {
+		begin("end");
+		end(null);
+	}
+
+	@Override
+	protected void classSymbol(Class c) {
+		begin("class");
+		name(c.getName());
+		if (c.getParent() != null) {
+			sb.append(",\"parent\":").append(
+					MiscUtils.quote(c.getParent().getName()));
+		}
+		end(c.getLocation());
+	}
+
+	@Override
+	protected void function(Function f) {
+		begin("function");
+		name(f.getName());
+		sb.append(",\"static\":").append(f.isStatik());
+		sb.append(",\"main\":").append(f.isMain());
+		sb.append(",\"returns\":");
+		type(f.getReturnType());
+		sb.append(",\"params\":[");
+		List<Type> params = f.getType().getArgList();
+		for (int i = 0; i < params.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			type(params.get(i));
+		}
+		sb.append(']');
+		end(f.getLocation());
+	}
+
+	@Override
+	protected void variable(Variable v) {
+		begin("variable");
+		name(v.getName());
+		sb.append(",\"type\":");
+		type(v.getType());
+		sb.append(",\"slot\":").append(v.getOffset());
+		end(v.getLocation());
+	}
+
+	@Override
+	protected void finish() {
+		out.flush();
+	}
+
+	private void begin(String record) {
+		sb.setLength(0);
+		sb.append("{\"record\":\"").append(record).append('"');
+	}
+
+	private void name(String name) {
+		sb.append(",\"name\":").append(MiscUtils.quote(name));
+	}
+
+	private void type(Type t) {
+		if (t.isArrayType()) {
+			sb.append("{\"kind\":\"array\",\"element\":");
+			type(((ArrayType) t).getElementType());
+			sb.append('}');
+		} else if (t.isClassType()) {
+			sb.append("{\"kind\":\"class\",\"name\":").append(
+					MiscUtils.quote(((ClassType) t).getSymbol().getName()))
+					.append('}');
+		} else {
+			sb.append("{\"kind\":").append(MiscUtils.quote(t.toString()))
+					.append('}');
+		}
+	}
+
+	private void end(Location location) {
+		if (location != null && location != Location.NO_LOCATION) {
+			sb.append(",\"line\":").append(location.getLine());
+			sb.append(",\"column\":").append(location.getColumn());
+		}
+		sb.append('}');
+		out.println(sb);
+	}
+}
@@ -1,18 +1,19 @@
 package decaf.scope;
 
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 import decaf.symbol.Symbol;
 import decaf.utils.IndentPrintWriter;
 
-public abstract class Scope {
+public abstract class Scope implements Iterable<Symbol> {
 	public enum Kind {
 		GLOBAL, CLASS, FORMAL, LOCAL
 	}
 
-	protected Map<String, Symbol> symbols = new LinkedHashMap<String, Symbol>();
+	/**
+	 * 直到声明第一个符号时才分配
+	 */
+	private SymbolMap symbols = SymbolMap.EMPTY;
 
 	public abstract Kind getKind();
 
@@ -39,7 +40,10 @@ public abstract class Scope {
 	}
 
 	public void declare(Symbol symbol) {
-		symbols.put(symbol.getName(), symbol);
+		if (symbols == SymbolMap.EMPTY) {
+			symbols = new SymbolMap();
+		}
+		symbols.put(symbol);
 		symbol.setScope(this);
 	}
 
@@ -47,8 +51,16 @@ public abstract class Scope {
 		symbols.remove(symbol.getName());
 	}
 
+	public int size() {
+		return symbols.size();
+	}
+
+	/**
+	 * 按声明顺序遍历符号
+	 */
+	@Override
 	public Iterator<Symbol> iterator() {
-		return symbols.values().iterator();
+		return symbols.iterator();
 	}
 
 }
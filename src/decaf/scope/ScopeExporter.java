@@ -0,0 +1,135 @@
+package decaf.scope;
+
+import java.io.PrintStream;
+
+import decaf.Location;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Symbol;
+import decaf.symbol.Variable;
+
+/**
+ * 以机器可读的格式导出作用域树（-export），次序与GlobalScope.printTo的文本相同：
+ * 全局作用域中的类，然后依次是各个类的作用域、其中各个方法的形式参数作用域与
+ * 局部作用域。每个作用域先给出自身，然后是其中的符号与嵌套的作用域，最后以结束
+ * 记录收尾。边遍历边写出，不在内存中积累
+ */
+public abstract class ScopeExporter {
+
+	public enum Format {
+
+		/**
+		 * 每行一个JSON对象，参见NdjsonExporter
+		 */
+		NDJSON {
+			@Override
+			public ScopeExporter create(PrintStream out) {
+				return new NdjsonExporter(out);
+			}
+		},
+
+		/**
+		 * 紧凑的二进制格式，参见BinaryExporter
+		 */
+		BINARY {
+			@Override
+			public ScopeExporter create(PrintStream out) {
+				return new BinaryExporter(out);
+			}
+		};
+
+		public abstract ScopeExporter create(PrintStream out);
+	}
+
+	/**
+	 * 导出整个作用域树
+	 */
+	public void exportGlobal(GlobalScope scope) {
+		beginGlobal(scope);
+		for (Symbol symbol : scope) {
+			exportClass(((Class) symbol).getAssociatedScope());
+		}
+		endGlobal();
+	}
+
+	/**
+	 * 逐个类导出时使用：导出全局作用域及其中的类，此后应依次调用exportClass，
+	 * 最后调用endGlobal
+	 */
+	public void beginGlobal(GlobalScope scope) {
+		beginScope(Scope.Kind.GLOBAL, null, null);
+		for (Symbol symbol : scope) {
+			classSymbol((Class) symbol);
+		}
+	}
+
+	public void exportClass(ClassScope scope) {
+		beginScope(Scope.Kind.CLASS, scope.getOwner().getName(), scope
+				.getOwner().getLocation());
+		Symbol[] members = scope.getSortedMembers();
+		for (Symbol symbol : members) {
+			if (symbol.isFunction()) {
+				function((Function) symbol);
+			} else {
+				variable((Variable) symbol);
+			}
+		}
+		for (Symbol symbol : members) {
+			if (symbol.isFunction()) {
+				exportFormal(((Function) symbol).getAssociatedScope());
+			}
+		}
+		endScope();
+	}
+
+	public void endGlobal() {
+		endScope();
+		finish();
+	}
+
+	private void exportFormal(FormalScope scope) {
+		Function owner = scope.getOwner();
+		beginScope(Scope.Kind.FORMAL, owner.getName(), owner.getLocation());
+		for (Symbol symbol : scope) {
+			variable((Variable) symbol);
+		}
+		exportLocal(scope.getBodyScope());
+		endScope();
+	}
+
+	private void exportLocal(LocalScope scope) {
+		beginScope(Scope.Kind.LOCAL, null, scope.getLocation());
+		for (Symbol symbol : scope) {
+			variable((Variable) symbol);
+		}
+		for (LocalScope child : scope.getChildren()) {
+			exportLocal(child);
+		}
+		endScope();
+	}
+
+	/**
+	 * @param owner
+	 *            类作用域为类名，形式参数作用域为方法名，其他为null
+	 * @param location
+	 *            全局作用域为null
+	 */
+	protected abstract void beginScope(Scope.Kind kind, String owner,
+			Location location);
+
+	protected abstract void endScope();
+
+	protected abstract void classSymbol(Class c);
+
+	protected abstract void function(Function f);
+
+	/**
+	 * 成员变量、参数或局部变量，由所在的作用域区分，slot为ResolveSlots给出的编号
+	 */
+	protected abstract void variable(Variable v);
+
+	/**
+	 * 写出全部缓冲的内容
+	 */
+	protected abstract void finish();
+}
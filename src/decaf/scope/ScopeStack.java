@@ -1,91 +1,267 @@
 package decaf.scope;
 
-import java.util.ListIterator;
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import decaf.Location;
 import decaf.scope.Scope.Kind;
 import decaf.symbol.Class;
 import decaf.symbol.Symbol;
 
+/**
+ * 作用域栈<br>
+ * 形式参数与局部作用域中的名字放在同一张表中，每个名字对应一条由内向外的绑定链，
+ * 关闭作用域时按撤销日志恢复；类作用域经展平的成员表查找，全局作用域直接查找，
+ * 因此名字解析的代价与打开的语句块和祖先类的个数无关
+ */
 public class ScopeStack {
-	private Stack<Scope> scopeStack = new Stack<Scope>();
-	
+
+	private Map<String, Binding> bindings = new HashMap<String, Binding>();
+
+	/**
+	 * 撤销日志，记录绑定的名字，每个打开的作用域占据从其start开始的一段
+	 */
+	private List<String> log = new ArrayList<String>();
+
+	private Frame top;
+
 	private GlobalScope globalScope;
 
+	private ClassScope classScope;
+
+	private FormalScope formalScope;
+
+	/**
+	 * 本次查找探查的表的个数，供LookupStats统计
+	 */
+	private int probes;
+
+	private static final class Binding {
+
+		private final Symbol symbol;
+
+		private final Scope scope;
+
+		private final Binding shadowed;
+
+		Binding(Symbol symbol, Scope scope, Binding shadowed) {
+			this.symbol = symbol;
+			this.scope = scope;
+			this.shadowed = shadowed;
+		}
+	}
+
+	private static final class Frame {
+
+		private final Scope scope;
+
+		private final Frame next;
+
+		private final int start;
+
+		private final ClassScope classScope;
+
+		private final FormalScope formalScope;
+
+		Frame(Scope scope, Frame next, int start, ClassScope classScope,
+				FormalScope formalScope) {
+			this.scope = scope;
+			this.next = next;
+			this.start = start;
+			this.classScope = classScope;
+			this.formalScope = formalScope;
+		}
+	}
+
 	public Symbol lookup(String name, boolean through) {
-		if (through) {
-			ListIterator<Scope> iter = scopeStack.listIterator(scopeStack
-					.size());
-			while (iter.hasPrevious()) {
-				Symbol symbol = iter.previous().lookup(name);
-				if (symbol != null) {
-					return symbol;
-				}
-			}
-			return null;
+		probes = 1;
+		Symbol symbol;
+		if (!through) {
+			symbol = top.scope.lookup(name);
 		} else {
-			return scopeStack.peek().lookup(name);
+			Binding b = bindings.get(name);
+			symbol = b != null ? b.symbol : lookupOuter(name);
+		}
+		LookupStats stats = LookupStats.active();
+		if (stats != null) {
+			stats.record(LookupStats.Op.LOOKUP, probes, depthOf(symbol));
 		}
+		return symbol;
 	}
 
 	public Symbol lookupBeforeLocation(String name, Location loc) {
-		ListIterator<Scope> iter = scopeStack.listIterator(scopeStack.size());
-		while (iter.hasPrevious()) {
-			Scope scope = iter.previous();
-			Symbol symbol = scope.lookup(name);
+		probes = 1;
+		Symbol symbol = null;
+		for (Binding b = bindings.get(name); b != null; b = b.shadowed) {
+			if (b.scope.isLocalScope()
+					&& b.symbol.getLocation().compareTo(loc) > 0) {
+				probes++;
+				continue;
+			}
+			symbol = b.symbol;
+			break;
+		}
+		if (symbol == null) {
+			symbol = lookupOuter(name);
+		}
+		LookupStats stats = LookupStats.active();
+		if (stats != null) {
+			stats.record(LookupStats.Op.BEFORE_LOCATION, probes,
+					depthOf(symbol));
+		}
+		return symbol;
+	}
+
+	/**
+	 * 查找与当前位置的声明冲突的符号：形式参数与局部作用域中的绑定，
+	 * 当前作用域为类作用域时还有该类自己的成员。不涉及祖先类与全局作用域，
+	 * 因此在其它类的作用域仍在建立时也可以调用
+	 */
+	public Symbol lookupDeclared(String name) {
+		Binding b = bindings.get(name);
+		if (b != null) {
+			return b.symbol;
+		}
+		return top.scope.isClassScope() ? top.scope.lookup(name) : null;
+	}
+
+	/**
+	 * 在类作用域（含祖先类）与全局作用域中查找
+	 */
+	private Symbol lookupOuter(String name) {
+		if (classScope != null) {
+			probes++;
+			Symbol symbol = classScope.lookupVisible(name);
 			if (symbol != null) {
-				if (scope.isLocalScope()
-						&& symbol.getLocation().compareTo(loc) > 0) {
-					continue;
-				}
 				return symbol;
 			}
 		}
-		return null;
+		if (globalScope == null) {
+			return null;
+		}
+		probes++;
+		return globalScope.lookup(name);
+	}
+
+	/**
+	 * @return 从栈顶向外数到定义symbol的作用域的层数，继承的成员再加上到祖先类的
+	 *         距离；symbol为null时返回-1。只用于统计
+	 */
+	private int depthOf(Symbol symbol) {
+		if (symbol == null) {
+			return -1;
+		}
+		Scope scope = symbol.getScope();
+		int depth = 0;
+		for (Frame f = top; f != null; f = f.next) {
+			if (f.scope == scope) {
+				return depth;
+			}
+			if (f.scope == classScope && scope != null && scope.isClassScope()) {
+				int hops = classScope.distanceTo((ClassScope) scope);
+				if (hops >= 0) {
+					return depth + hops;
+				}
+			}
+			depth++;
+		}
+		return depth;
 	}
 
 	public void declare(Symbol symbol) {
-		scopeStack.peek().declare(symbol);
+		top.scope.declare(symbol);
+		if (isBound(top.scope)) {
+			bind(symbol, top.scope);
+		}
 	}
 
 	public void open(Scope scope) {
+		top = new Frame(scope, top, log.size(), classScope, formalScope);
 		switch (scope.getKind()) {
 		case GLOBAL:
-			globalScope = (GlobalScope)scope;
+			globalScope = (GlobalScope) scope;
 			break;
 		case CLASS:
-			ClassScope cs = ((ClassScope) scope).getParentScope();
-			if (cs != null) {
-				open(cs);
-			}
+			classScope = (ClassScope) scope;
 			break;
+		case FORMAL:
+			formalScope = (FormalScope) scope;
+			break;
+		}
+		if (isBound(scope)) {
+			Iterator<Symbol> iter = scope.iterator();
+			while (iter.hasNext()) {
+				bind(iter.next(), scope);
+			}
 		}
-		scopeStack.push(scope);
 	}
 
 	public void close() {
-		Scope scope = scopeStack.pop();
-		if (scope.isClassScope()) {
-			for (int n = scopeStack.size() - 1; n > 0; n--) {
-				scopeStack.pop();
+		for (int n = log.size() - 1; n >= top.start; n--) {
+			String name = log.remove(n);
+			Binding b = bindings.get(name).shadowed;
+			if (b == null) {
+				bindings.remove(name);
+			} else {
+				bindings.put(name, b);
 			}
 		}
+		classScope = top.classScope;
+		formalScope = top.formalScope;
+		top = top.next;
+	}
+
+	private boolean isBound(Scope scope) {
+		return scope.isFormalScope() || scope.isLocalScope();
+	}
+
+	private void bind(Symbol symbol, Scope scope) {
+		String name = symbol.getName();
+		bindings.put(name, new Binding(symbol, scope, bindings.get(name)));
+		log.add(name);
 	}
 
 	public Scope lookForScope(Kind kind) {
-		ListIterator<Scope> iter = scopeStack.listIterator(scopeStack.size());
-		while (iter.hasPrevious()) {
-			Scope scope = iter.previous();
-			if (scope.getKind() == kind) {
-				return scope;
+		Scope scope = null;
+		int walked = 0;
+		switch (kind) {
+		case GLOBAL:
+			scope = globalScope;
+			break;
+		case CLASS:
+			scope = classScope;
+			break;
+		case FORMAL:
+			scope = formalScope;
+			break;
+		default:
+			for (Frame f = top; f != null; f = f.next) {
+				walked++;
+				if (f.scope.getKind() == kind) {
+					scope = f.scope;
+					break;
+				}
+			}
+		}
+		LookupStats stats = LookupStats.active();
+		if (stats != null) {
+			int depth = -1;
+			if (scope != null) {
+				depth = 0;
+				for (Frame f = top; f.scope != scope; f = f.next) {
+					depth++;
+				}
 			}
+			stats.record(LookupStats.Op.LOOK_FOR_SCOPE, walked, depth);
 		}
-		return null;
+		return scope;
 	}
 
 	public Scope getCurrentScope() {
-		return scopeStack.peek();
+		return top.scope;
 	}
 
 	public Class lookupClass(String name) {
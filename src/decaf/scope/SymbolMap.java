@@ -0,0 +1,174 @@
+package decaf.scope;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import decaf.symbol.Symbol;
+
+/**
+ * 作用域中的符号表，保持声明顺序<br>
+ * 不超过THRESHOLD个符号时使用按声明顺序排列的数组加开放定址的下标表，
+ * 超过后改用LinkedHashMap。没有符号的作用域共用EMPTY
+ */
+final class SymbolMap implements Iterable<Symbol> {
+
+	static final SymbolMap EMPTY = new SymbolMap(0);
+
+	private static final int THRESHOLD = 8;
+
+	/**
+	 * 按声明顺序排列的符号
+	 */
+	private Symbol[] entries;
+
+	private int size;
+
+	/**
+	 * 开放定址表，存放entries中的下标加一，0表示空位
+	 */
+	private byte[] slots;
+
+	private Map<String, Symbol> map;
+
+	SymbolMap() {
+		this(2);
+	}
+
+	private SymbolMap(int capacity) {
+		entries = new Symbol[capacity];
+		slots = new byte[capacity * 2];
+	}
+
+	int size() {
+		return map == null ? size : map.size();
+	}
+
+	Symbol get(String name) {
+		if (map != null) {
+			return map.get(name);
+		}
+		int i = indexOf(name);
+		return i < 0 ? null : entries[i];
+	}
+
+	void put(Symbol symbol) {
+		if (map != null) {
+			map.put(symbol.getName(), symbol);
+			return;
+		}
+		int i = indexOf(symbol.getName());
+		if (i >= 0) {
+			entries[i] = symbol;
+			return;
+		}
+		if (size == THRESHOLD) {
+			map = new LinkedHashMap<String, Symbol>();
+			for (int k = 0; k < size; k++) {
+				map.put(entries[k].getName(), entries[k]);
+			}
+			map.put(symbol.getName(), symbol);
+			entries = null;
+			slots = null;
+			return;
+		}
+		if (size == entries.length) {
+			Symbol[] bigger = new Symbol[size * 2];
+			System.arraycopy(entries, 0, bigger, 0, size);
+			entries = bigger;
+			slots = new byte[bigger.length * 2];
+			entries[size++] = symbol;
+			rehash();
+		} else {
+			entries[size++] = symbol;
+			insert(size - 1);
+		}
+	}
+
+	void remove(String name) {
+		if (map != null) {
+			map.remove(name);
+			return;
+		}
+		int i = indexOf(name);
+		if (i >= 0) {
+			removeAt(i);
+		}
+	}
+
+	private int indexOf(String name) {
+		int mask = slots.length - 1;
+		if (mask < 0 || name == null) {
+			return -1;
+		}
+		for (int i = name.hashCode() & mask; slots[i] != 0; i = (i + 1) & mask) {
+			Symbol s = entries[slots[i] - 1];
+			if (s.getName().equals(name)) {
+				return slots[i] - 1;
+			}
+		}
+		return -1;
+	}
+
+	private void insert(int index) {
+		int mask = slots.length - 1;
+		int i = entries[index].getName().hashCode() & mask;
+		while (slots[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		slots[i] = (byte) (index + 1);
+	}
+
+	private void rehash() {
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = 0;
+		}
+		for (int i = 0; i < size; i++) {
+			insert(i);
+		}
+	}
+
+	private void removeAt(int index) {
+		System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+		entries[--size] = null;
+		rehash();
+	}
+
+	@Override
+	public Iterator<Symbol> iterator() {
+		if (map != null) {
+			return map.values().iterator();
+		}
+		return new Iterator<Symbol>() {
+
+			private int cursor;
+
+			private boolean removable;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < size;
+			}
+
+			@Override
+			public Symbol next() {
+				if (cursor >= size) {
+					throw new NoSuchElementException();
+				}
+				removable = true;
+				return entries[cursor++];
+			}
+
+			@Override
+			public void remove() {
+				if (!removable) {
+					throw new IllegalStateException();
+				}
+				removable = false;
+				removeAt(--cursor);
+			}
+
+		};
+	}
+}
@@ -1,6 +1,5 @@
 package decaf.symbol;
 
-import decaf.Driver;
 import decaf.Location;
 import decaf.scope.ClassScope;
 import decaf.scope.GlobalScope;
@@ -10,6 +9,8 @@ public class Class extends Symbol {
 
 	private String parentName;
 
+	private Class parent;
+
 	private ClassScope associatedScope;
 
 	private int order;
@@ -57,15 +58,17 @@ public class Class extends Symbol {
 		this.associatedScope = new ClassScope(this);
 	}
 
+	/**
+	 * 应按父类先于子类的次序调用，参见ClassHierarchy.getTopologicalOrder()
+	 */
 	public void createType() {
-		Class p = getParent();
-		if (p == null) {
+		if (type != null) {
+			return;
+		}
+		if (parent == null) {
 			type = new ClassType(this, null);
 		} else {
-			if (p.getType() == null) {
-				p.createType();
-			}
-			type = new ClassType(this, (ClassType) p.getType());
+			type = new ClassType(this, parent.getType());
 		}
 	}
 
@@ -90,8 +93,15 @@ public class Class extends Symbol {
 		return associatedScope;
 	}
 
+	/**
+	 * 由BuildSym在解析继承关系时调用一次
+	 */
+	public void bindParent(Class parent) {
+		this.parent = parent;
+	}
+
 	public Class getParent() {
-		return Driver.getDriver().getTable().lookupClass(parentName);
+		return parent;
 	}
 
 	@Override
@@ -114,6 +124,7 @@ public class Class extends Symbol {
 
 	public void dettachParent() {
 		parentName = null;
+		parent = null;
 	}
 
 	public boolean isCheck() {
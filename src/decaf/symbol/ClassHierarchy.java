@@ -0,0 +1,130 @@
+package decaf.symbol;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 解析完成的继承森林，建立后不再改变<br>
+ * 要求各个类的父类指针已经绑定且不构成环。拓扑序按Kahn算法求出（父类先于子类），
+ * assignIntervals另按先序遍历为每个类的ClassType编号，使子类判断只需比较区间，
+ * 编号只保存在ClassType中。全部过程都是迭代的，继承链再深也不会耗尽栈空间
+ */
+public final class ClassHierarchy {
+
+	private static final List<Class> NO_CLASSES = Collections.emptyList();
+
+	private final Map<Class, Integer> index = new IdentityHashMap<Class, Integer>();
+
+	private final List<Class> roots;
+
+	private final List<Class> topologicalOrder;
+
+	private final List<List<Class>> children;
+
+	private final int[] depth;
+
+	/**
+	 * @param classes
+	 *            程序中的所有类，子类列表与根的次序同它一致
+	 * @throws IllegalArgumentException
+	 *             如果父类指针构成环
+	 */
+	public ClassHierarchy(List<Class> classes) {
+		int n = classes.size();
+		List<Class> rootList = new ArrayList<Class>();
+		List<List<Class>> childLists = new ArrayList<List<Class>>(n);
+		for (int i = 0; i < n; i++) {
+			index.put(classes.get(i), i);
+			childLists.add(null);
+		}
+		for (Class c : classes) {
+			Class p = c.getParent();
+			if (p == null) {
+				rootList.add(c);
+				continue;
+			}
+			int k = indexOf(p);
+			if (childLists.get(k) == null) {
+				childLists.set(k, new ArrayList<Class>());
+			}
+			childLists.get(k).add(c);
+		}
+		children = new ArrayList<List<Class>>(n);
+		for (List<Class> list : childLists) {
+			children.add(list == null ? NO_CLASSES : Collections
+					.unmodifiableList(list));
+		}
+		roots = Collections.unmodifiableList(rootList);
+
+		// Kahn算法：每个类的入度至多为1，从根出发逐层放出子类
+		depth = new int[n];
+		List<Class> order = new ArrayList<Class>(n);
+		order.addAll(rootList);
+		for (int head = 0; head < order.size(); head++) {
+			Class c = order.get(head);
+			int d = depth[indexOf(c)] + 1;
+			for (Class child : children.get(indexOf(c))) {
+				depth[indexOf(child)] = d;
+				order.add(child);
+			}
+		}
+		if (order.size() != n) {
+			throw new IllegalArgumentException("cyclic class hierarchy");
+		}
+		topologicalOrder = Collections.unmodifiableList(order);
+	}
+
+	/**
+	 * 迭代的先序遍历，为各个类的ClassType设置区间，须在各类的类型建立之后调用
+	 */
+	public void assignIntervals() {
+		int n = topologicalOrder.size();
+		int counter = 0;
+		Class[] stack = new Class[n];
+		int[] pre = new int[n];
+		int[] next = new int[n];
+		for (Class root : roots) {
+			int top = 0;
+			stack[0] = root;
+			pre[0] = counter++;
+			next[0] = 0;
+			while (top >= 0) {
+				List<Class> list = children.get(indexOf(stack[top]));
+				if (next[top] < list.size()) {
+					stack[++top] = list.get(next[top - 1]++);
+					pre[top] = counter++;
+					next[top] = 0;
+				} else {
+					stack[top].getType().setInterval(pre[top], counter - 1);
+					top--;
+				}
+			}
+		}
+	}
+
+	private int indexOf(Class c) {
+		Integer i = index.get(c);
+		if (i == null) {
+			throw new IllegalArgumentException("class " + c.getName()
+					+ " is not in the hierarchy");
+		}
+		return i;
+	}
+
+	/**
+	 * @return 所有的类，父类总在子类之前
+	 */
+	public List<Class> getTopologicalOrder() {
+		return topologicalOrder;
+	}
+
+	/**
+	 * @return 继承链的长度，根为0
+	 */
+	public int getDepth(Class c) {
+		return depth[indexOf(c)];
+	}
+}
@@ -1,13 +1,12 @@
 package decaf.symbol;
 
-import decaf.Driver;
 import decaf.Location;
 import decaf.tree.Tree.Block;
 import decaf.scope.ClassScope;
 import decaf.scope.FormalScope;
-import decaf.scope.Scope;
 import decaf.type.FuncType;
 import decaf.type.Type;
+import decaf.type.TypeTable;
 
 public class Function extends Symbol {
 
@@ -35,6 +34,11 @@ public class Function extends Symbol {
 
 	private int offset;
 
+	/**
+	 * 参数与局部变量占用的槽数，参见ResolveSlots
+	 */
+	private int numSlots;
+
 	public int getOffset() {
 		return offset;
 	}
@@ -43,18 +47,24 @@ public class Function extends Symbol {
 		this.offset = offset;
 	}
 
+	public int getNumSlots() {
+		return numSlots;
+	}
+
+	public void setNumSlots(int numSlots) {
+		this.numSlots = numSlots;
+	}
+
 	public Function(boolean statik, String name, Type returnType,
-			Block node, Location location) {
+			Block node, Location location, Class owner) {
 		this.name = name;
 		this.location = location;
 
 		type = new FuncType(returnType);
 		associatedScope = new FormalScope(this, node);
-		ClassScope cs = (ClassScope) Driver.getDriver().getTable()
-				.lookForScope(Scope.Kind.CLASS);
 		this.statik = statik;
 		if (!statik) {
-			Variable _this = new Variable("this", cs.getOwner().getType(),
+			Variable _this = new Variable("this", owner.getType(),
 					location);
 			associatedScope.declare(_this);
 			appendParam(_this);
@@ -75,6 +85,13 @@ public class Function extends Symbol {
 		getType().appendParam(arg.getType());
 	}
 
+	/**
+	 * 参数全部加入之后调用，将函数类型换成类型表中的唯一实例
+	 */
+	public void internType(TypeTable table) {
+		type = table.intern(getType());
+	}
+
 	@Override
 	public ClassScope getScope() {
 		return (ClassScope) definedIn;
@@ -349,6 +349,7 @@ public abstract class Tree {
 		public List<ClassDef> classes;
 		public Class main;
 		public GlobalScope globalScope;
+		public ClassHierarchy hierarchy;
 		
 		public TopLevel(List<ClassDef> classes, Location loc) {
 			super(TOPLEVEL, loc);
@@ -1215,6 +1216,11 @@ public abstract class Tree {
     	public String name;
     	public Variable symbol;
     	public boolean isDefined;
+    	/**
+    	 * 类型检查后由ResolveSlots填入：局部变量与参数为方法内的槽号，
+    	 * 成员变量为类中的字段号，未解析为变量时为-1
+    	 */
+    	public int slot = -1;
 
         public Ident(Expr owner, String name, Location loc) {
             super(IDENT, loc);
@@ -0,0 +1,214 @@
+package decaf.tree;
+
+import java.util.List;
+
+/**
+ * 按源程序顺序访问语法树中所有结点的访问者<br>
+ * 子类只需覆盖关心的结点，并在其中调用super对应方法以继续访问子结点
+ */
+public class TreeScanner extends Tree.Visitor {
+
+	/**
+	 * @return tree中结点的个数
+	 */
+	public static int countNodes(Tree tree) {
+		final int[] count = new int[1];
+		new TreeScanner() {
+
+			@Override
+			public void scan(Tree tree) {
+				if (tree != null) {
+					count[0]++;
+				}
+				super.scan(tree);
+			}
+
+		}.scan(tree);
+		return count[0];
+	}
+
+	public void scan(Tree tree) {
+		if (tree != null) {
+			tree.accept(this);
+		}
+	}
+
+	public void scan(List<? extends Tree> trees) {
+		if (trees != null) {
+			for (Tree t : trees) {
+				scan(t);
+			}
+		}
+	}
+
+	@Override
+	public void visitTopLevel(Tree.TopLevel that) {
+		scan(that.classes);
+	}
+
+	@Override
+	public void visitClassDef(Tree.ClassDef that) {
+		scan(that.fields);
+	}
+
+	@Override
+	public void visitMethodDef(Tree.MethodDef that) {
+		scan(that.returnType);
+		scan(that.formals);
+		scan(that.body);
+	}
+
+	@Override
+	public void visitVarDef(Tree.VarDef that) {
+		scan(that.type);
+	}
+
+	@Override
+	public void visitSkip(Tree.Skip that) {
+	}
+
+	@Override
+	public void visitBlock(Tree.Block that) {
+		scan(that.block);
+	}
+
+	@Override
+	public void visitWhileLoop(Tree.WhileLoop that) {
+		scan(that.condition);
+		scan(that.loopBody);
+	}
+
+	@Override
+	public void visitRepeatLoop(Tree.RepeatLoop that) {
+		scan(that.loopBody);
+		scan(that.condition);
+	}
+
+	@Override
+	public void visitForLoop(Tree.ForLoop that) {
+		scan(that.init);
+		scan(that.condition);
+		scan(that.update);
+		scan(that.loopBody);
+	}
+
+	@Override
+	public void visitIf(Tree.If that) {
+		scan(that.condition);
+		scan(that.trueBranch);
+		scan(that.falseBranch);
+	}
+
+	@Override
+	public void visitExec(Tree.Exec that) {
+		scan(that.expr);
+	}
+
+	@Override
+	public void visitBreak(Tree.Break that) {
+	}
+
+	@Override
+	public void visitReturn(Tree.Return that) {
+		scan(that.expr);
+	}
+
+	@Override
+	public void visitApply(Tree.Apply that) {
+		scan(that.receiver);
+		scan(that.actuals);
+	}
+
+	@Override
+	public void visitNewClass(Tree.NewClass that) {
+	}
+
+	@Override
+	public void visitNewArray(Tree.NewArray that) {
+		scan(that.elementType);
+		scan(that.length);
+	}
+
+	@Override
+	public void visitAssign(Tree.Assign that) {
+		scan(that.left);
+		scan(that.expr);
+	}
+
+	@Override
+	public void visitUnary(Tree.Unary that) {
+		scan(that.expr);
+	}
+
+	@Override
+	public void visitBinary(Tree.Binary that) {
+		scan(that.left);
+		scan(that.right);
+	}
+
+	@Override
+	public void visitCallExpr(Tree.CallExpr that) {
+		scan(that.receiver);
+		scan(that.actuals);
+	}
+
+	@Override
+	public void visitReadIntExpr(Tree.ReadIntExpr that) {
+	}
+
+	@Override
+	public void visitReadLineExpr(Tree.ReadLineExpr that) {
+	}
+
+	@Override
+	public void visitPrint(Tree.Print that) {
+		scan(that.exprs);
+	}
+
+	@Override
+	public void visitThisExpr(Tree.ThisExpr that) {
+	}
+
+	@Override
+	public void visitTypeCast(Tree.TypeCast that) {
+		scan(that.expr);
+	}
+
+	@Override
+	public void visitTypeTest(Tree.TypeTest that) {
+		scan(that.instance);
+	}
+
+	@Override
+	public void visitIndexed(Tree.Indexed that) {
+		scan(that.array);
+		scan(that.index);
+	}
+
+	@Override
+	public void visitIdent(Tree.Ident that) {
+		scan(that.owner);
+	}
+
+	@Override
+	public void visitLiteral(Tree.Literal that) {
+	}
+
+	@Override
+	public void visitNull(Tree.Null that) {
+	}
+
+	@Override
+	public void visitTypeIdent(Tree.TypeIdent that) {
+	}
+
+	@Override
+	public void visitTypeClass(Tree.TypeClass that) {
+	}
+
+	@Override
+	public void visitTypeArray(Tree.TypeArray that) {
+		scan(that.elementType);
+	}
+
+}
@@ -8,24 +8,18 @@ public class ArrayType extends Type {
 		return elementType;
 	}
 
-	public ArrayType(Type elementType) {
+	ArrayType(Type elementType) {
 		this.elementType = elementType;
 	}
 
 	@Override
 	public boolean compatible(Type type) {
-		if (type.equal(BaseType.ERROR)) {
-			return true;
-		}
-		return equal(type);
+		return type == BaseType.ERROR || this == type;
 	}
 
 	@Override
 	public boolean equal(Type type) {
-		if (!type.isArrayType()) {
-			return false;
-		}
-		return elementType.equal(((ArrayType) type).elementType);
+		return this == type;
 	}
 
 	@Override
@@ -9,31 +9,58 @@ public class ClassType extends Type {
 
 	private ClassType parent;
 
+	/**
+	 * 继承森林先序遍历中的编号，-1表示尚未编号
+	 */
+	private int pre = -1;
+
+	/**
+	 * 以该类为根的子树中最大的先序编号
+	 */
+	private int last = -1;
+
 	public ClassType(Class symbol, ClassType parent) {
 		this.symbol = symbol;
 		this.parent = parent;
 	}
 
-	@Override
-	public boolean compatible(Type type) {
-		if (type.equal(BaseType.ERROR)) {
-			return true;
-		}
-		if (!type.isClassType()) {
-			return false;
+	/**
+	 * 继承关系确定之后由BuildSym设置，此后子类判断只需比较区间
+	 */
+	public void setInterval(int pre, int last) {
+		this.pre = pre;
+		this.last = last;
+	}
+
+	/**
+	 * @return 该类是否为type本身或type的子类
+	 */
+	public boolean isSubclassOf(ClassType type) {
+		if (pre >= 0 && type.pre >= 0) {
+			return type.pre <= pre && pre <= type.last;
 		}
 		for (ClassType t = this; t != null; t = t.parent) {
-			if (t.equal(type)) {
+			if (t == type) {
 				return true;
 			}
 		}
 		return false;
+	}
 
+	@Override
+	public boolean compatible(Type type) {
+		if (type == BaseType.ERROR) {
+			return true;
+		}
+		if (!type.isClassType()) {
+			return false;
+		}
+		return isSubclassOf((ClassType) type);
 	}
 
 	@Override
 	public boolean equal(Type type) {
-		return type.isClassType() && symbol == ((ClassType) type).symbol;
+		return this == type;
 	}
 
 	@Override
@@ -25,7 +25,7 @@ public class FuncType extends Type {
 
 	@Override
 	public boolean compatible(Type type) {
-		if (type.equal(BaseType.ERROR)) {
+		if (this == type || type == BaseType.ERROR) {
 			return true;
 		}
 		if (!type.isFuncType()) {
@@ -50,7 +50,7 @@ public class FuncType extends Type {
 
 	@Override
 	public boolean equal(Type type) {
-		return equals(type);
+		return this == type;
 	}
 
 	@Override
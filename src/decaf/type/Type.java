@@ -1,6 +1,33 @@
 package decaf.type;
 
 public abstract class Type {
+
+	private volatile ArrayType arrayType;
+
+	/**
+	 * 返回以该类型为元素的数组类型，同一元素类型只创建一次
+	 */
+	public ArrayType arrayOf() {
+		ArrayType t = arrayType;
+		if (t == null) {
+			synchronized (this) {
+				t = arrayType;
+				if (t == null) {
+					t = new ArrayType(this);
+					arrayType = t;
+				}
+			}
+		}
+		return t;
+	}
+
+	/**
+	 * @return 已经建立的以该类型为元素的数组类型，没有时返回null
+	 */
+	public ArrayType getArrayType() {
+		return arrayType;
+	}
+
 	public boolean isBaseType() {
 		return false;
 	}
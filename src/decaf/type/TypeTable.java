@@ -0,0 +1,74 @@
+package decaf.type;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 一次编译中的函数类型表，保证同一签名只有一个FuncType<br>
+ * 数组类型由元素类型自己保存（见Type.arrayOf），类类型每个类只有一个，
+ * 因此所有类型都可以用引用比较判断是否相等
+ */
+public class TypeTable {
+
+	private final ConcurrentMap<Signature, FuncType> funcTypes = new ConcurrentHashMap<Signature, FuncType>();
+
+	/**
+	 * @param type
+	 *            参数已全部加入、不再修改的函数类型
+	 * @return 表中与type签名相同的唯一函数类型
+	 */
+	public FuncType intern(FuncType type) {
+		FuncType t = funcTypes.putIfAbsent(new Signature(type), type);
+		return t == null ? type : t;
+	}
+
+	public int size() {
+		return funcTypes.size();
+	}
+
+	/**
+	 * 组成签名的类型都已唯一化，直接按引用比较
+	 */
+	private static final class Signature {
+
+		private final Type returnType;
+
+		private final List<Type> argList;
+
+		private final int hash;
+
+		Signature(FuncType type) {
+			returnType = type.getReturnType();
+			argList = type.getArgList();
+			int h = System.identityHashCode(returnType);
+			for (Type t : argList) {
+				h = h * 31 + System.identityHashCode(t);
+			}
+			hash = h;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Signature)) {
+				return false;
+			}
+			Signature s = (Signature) obj;
+			if (returnType != s.returnType
+					|| argList.size() != s.argList.size()) {
+				return false;
+			}
+			for (int i = 0; i < argList.size(); i++) {
+				if (argList.get(i) != s.argList.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
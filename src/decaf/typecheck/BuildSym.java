@@ -1,6 +1,13 @@
 package decaf.typecheck;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 import decaf.Driver;
 import decaf.tree.Tree;
@@ -11,25 +18,54 @@ import decaf.error.BadVarTypeError;
 import decaf.error.ClassNotFoundError;
 import decaf.error.DecafError;
 import decaf.error.DeclConflictError;
+import decaf.error.ErrorLimitException;
 import decaf.error.NoMainClassError;
 import decaf.error.OverridingVarError;
+import decaf.jfr.ClassEvent;
 import decaf.scope.ClassScope;
 import decaf.scope.GlobalScope;
 import decaf.scope.LocalScope;
+import decaf.scope.Scope;
 import decaf.scope.ScopeStack;
 import decaf.symbol.Class;
+import decaf.symbol.ClassHierarchy;
 import decaf.symbol.Function;
 import decaf.symbol.Symbol;
 import decaf.symbol.Variable;
+import decaf.tree.TreeScanner;
 import decaf.type.BaseType;
 import decaf.type.FuncType;
+import decaf.utils.Workers;
 
 public class BuildSym extends Tree.Visitor {
 
 	private ScopeStack table;
 
+	/**
+	 * 不为null时错误只放入其中，由并行模式按程序顺序交给Driver，或由QueryEngine收集
+	 */
+	List<DecafError> buffer;
+
+	/**
+	 * 在并行的任务中：错误放入buffer的同时计数，达到-maxerr时立即中止
+	 */
+	private boolean worker;
+
+	/**
+	 * 本遍发现的错误个数
+	 */
+	private int errorCount;
+
 	private void issueError(DecafError error) {
-		Driver.getDriver().issueError(error);
+		errorCount++;
+		if (buffer != null) {
+			buffer.add(error);
+			if (worker) {
+				Driver.getDriver().countBuffered();
+			}
+		} else {
+			Driver.getDriver().issueError(error);
+		}
 	}
 
 	public BuildSym(ScopeStack table) {
@@ -40,9 +76,66 @@ public class BuildSym extends Tree.Visitor {
 		new BuildSym(Driver.getDriver().getTable()).visitTopLevel(tree);
 	}
 
+	/**
+	 * 融合模式的声明阶段：只声明类、成员与形式参数并检查覆盖与主类，不进入方法体。
+	 * 方法体中的局部作用域由TypeCheck.checkFused在检查类型的同时建立
+	 */
+	public static BuildSym declareSignatures(Tree.TopLevel tree) {
+		BuildSym builder = new BuildSym(Driver.getDriver().getTable());
+		builder.declareClasses(tree);
+		for (Tree.ClassDef cd : tree.classes) {
+			builder.declareMembers(cd);
+		}
+		builder.finish(tree, 1);
+		return builder;
+	}
+
 	// root
 	@Override
 	public void visitTopLevel(Tree.TopLevel program) {
+		declareClasses(program);
+
+		int threads = Driver.getDriver().getOption().getThreads();
+		if (threads > 1) {
+			visitClassesParallel(program, threads);
+		} else {
+			for (Tree.ClassDef cd : program.classes) {
+				cd.accept(this);
+			}
+		}
+		finish(program, threads);
+	}
+
+	/**
+	 * 全部成员声明之后确定主类，检查覆盖，关闭全局作用域
+	 */
+	private void finish(Tree.TopLevel program, int threads) {
+		for (Tree.ClassDef cd : program.classes) {
+			if (Driver.getDriver().getOption().getMainClassName().equals(
+					cd.name)) {
+				program.main = cd.symbol;
+			}
+		}
+
+		if (threads > 1) {
+			checkOverrideParallel(program.hierarchy, threads);
+		} else {
+			for (Class c : program.hierarchy.getTopologicalOrder()) {
+				checkOverride(c);
+			}
+		}
+
+		if (!isMainClass(program.main)) {
+			issueError(new NoMainClassError(Driver.getDriver().getOption()
+					.getMainClassName()));
+		}
+		table.close();
+	}
+
+	/**
+	 * 声明全部的类并解析继承关系，全局作用域保持打开
+	 */
+	void declareClasses(Tree.TopLevel program) {
 		program.globalScope = new GlobalScope();
 		table.open(program.globalScope);
 		for (Tree.ClassDef cd : program.classes) {
@@ -57,49 +150,173 @@ public class BuildSym extends Tree.Visitor {
 			cd.symbol = c;
 		}
 
-		for (Tree.ClassDef cd : program.classes) {
-			Class c = cd.symbol;
-			if (cd.parent != null && c.getParent() == null) {
-				issueError(new ClassNotFoundError(cd.getLocation(), cd.parent));
-				c.dettachParent();
-			}
-			if (calcOrder(c) <= calcOrder(c.getParent())) {
-				issueError(new BadInheritanceError(cd.getLocation()));
-				c.dettachParent();
+		program.hierarchy = resolveHierarchy(program);
+		for (Class c : program.hierarchy.getTopologicalOrder()) {
+			c.createType();
+			c.setOrder(program.hierarchy.getDepth(c));
+		}
+		program.hierarchy.assignIntervals();
+	}
+
+	/**
+	 * 只声明类的成员与方法的形式参数，不进入方法体
+	 */
+	void declareMembers(Tree.ClassDef classDef) {
+		Driver.getDriver().getBudget().check();
+		ClassEvent event = new ClassEvent();
+		event.begin();
+		int before = errorCount;
+		table.open(classDef.symbol.getAssociatedScope());
+		for (Tree f : classDef.fields) {
+			if (f.tag == Tree.METHODDEF) {
+				declareMethod((Tree.MethodDef) f);
+			} else {
+				f.accept(this);
 			}
 		}
+		table.close();
+		commit(event, classDef, before);
+	}
 
-		for (Tree.ClassDef cd : program.classes) {
-			cd.symbol.createType();
+	/**
+	 * 只在记录事件时才统计结点个数
+	 */
+	private void commit(ClassEvent event, Tree.ClassDef classDef, int before) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.className = classDef.name;
+			event.nodes = TreeScanner.countNodes(classDef);
+			event.errors = errorCount - before;
+			event.commit();
 		}
+	}
 
-		for (Tree.ClassDef cd : program.classes) {
-			cd.accept(this);
-			if (Driver.getDriver().getOption().getMainClassName().equals(
-					cd.name)) {
-				program.main = cd.symbol;
+	/**
+	 * 为已声明的方法建立方法体中的局部作用域，全局作用域须已打开
+	 */
+	void buildBody(Tree.ClassDef classDef, Tree.MethodDef funcDef) {
+		Hotspots hotspots = Driver.getDriver().getHotspots();
+		long[] start = hotspots == null ? null : hotspots.start();
+		table.open(classDef.symbol.getAssociatedScope());
+		table.open(funcDef.symbol.getAssociatedScope());
+		funcDef.body.accept(this);
+		table.close();
+		table.close();
+		if (hotspots != null) {
+			hotspots.built(classDef.symbol, funcDef, start);
+		}
+	}
+
+	/**
+	 * 类的声明与继承关系确定之后，各个类只建立自己的成员、形式参数与局部作用域，
+	 * 可以并行。每个任务使用自己的作用域栈与错误缓冲，完成后按程序顺序交出错误
+	 */
+	private void visitClassesParallel(Tree.TopLevel program, int threads) {
+		List<BuildTask> tasks = new ArrayList<BuildTask>();
+		for (final Tree.ClassDef cd : program.classes) {
+			tasks.add(new BuildTask(program.globalScope) {
+
+				@Override
+				void run(BuildSym builder) {
+					cd.accept(builder);
+				}
+
+			});
+		}
+		invokeAll(tasks, threads);
+	}
+
+	/**
+	 * 按深度分层检查覆盖：同一层的类互不依赖，父类都在上一层中完成
+	 */
+	private void checkOverrideParallel(ClassHierarchy hierarchy, int threads) {
+		List<Class> order = hierarchy.getTopologicalOrder();
+		int from = 0;
+		while (from < order.size()) {
+			int depth = hierarchy.getDepth(order.get(from));
+			List<BuildTask> tasks = new ArrayList<BuildTask>();
+			int to = from;
+			for (; to < order.size()
+					&& hierarchy.getDepth(order.get(to)) == depth; to++) {
+				final Class c = order.get(to);
+				tasks.add(new BuildTask(null) {
+
+					@Override
+					void run(BuildSym builder) {
+						builder.checkOverride(c);
+					}
+
+				});
 			}
+			invokeAll(tasks, threads);
+			from = to;
 		}
+	}
 
-		for (Tree.ClassDef cd : program.classes) {
-			checkOverride(cd.symbol);
+	/**
+	 * 执行全部任务，按程序顺序交出错误。某个任务使错误个数达到-maxerr时，
+	 * 交出已找到的错误，Driver在达到上限时再次抛出ErrorLimitException
+	 */
+	private static void invokeAll(List<BuildTask> tasks, int threads) {
+		try {
+			Workers.invokeAll(tasks, threads);
+		} catch (ErrorLimitException e) {
+			for (BuildTask task : tasks) {
+				task.flush();
+			}
+			throw e;
 		}
+		for (BuildTask task : tasks) {
+			task.flush();
+		}
+	}
 
-		if (!isMainClass(program.main)) {
-			issueError(new NoMainClassError(Driver.getDriver().getOption()
-					.getMainClassName()));
+	private static abstract class BuildTask implements Callable<Void> {
+
+		private GlobalScope globalScope;
+
+		private List<DecafError> errors = new ArrayList<DecafError>();
+
+		BuildTask(GlobalScope globalScope) {
+			this.globalScope = globalScope;
+		}
+
+		abstract void run(BuildSym builder);
+
+		@Override
+		public Void call() {
+			if (Driver.getDriver().isErrorLimitReached()) {
+				return null;
+			}
+			BuildSym builder = new BuildSym(new ScopeStack());
+			builder.buffer = errors;
+			builder.worker = true;
+			if (globalScope != null) {
+				builder.table.open(globalScope);
+			}
+			run(builder);
+			return null;
+		}
+
+		void flush() {
+			for (DecafError error : errors) {
+				Driver.getDriver().issueBuffered(error);
+			}
 		}
-		table.close();
 	}
 
 	// visiting declarations
 	@Override
 	public void visitClassDef(Tree.ClassDef classDef) {
+		ClassEvent event = new ClassEvent();
+		event.begin();
+		int before = errorCount;
 		table.open(classDef.symbol.getAssociatedScope());
 		for (Tree f : classDef.fields) {
 			f.accept(this);
 		}
 		table.close();
+		commit(event, classDef, before);
 	}
 
 	@Override
@@ -114,18 +331,11 @@ public class BuildSym extends Tree.Visitor {
 		}
 		Variable v = new Variable(varDef.name, varDef.type.type, 
 				varDef.getLocation());
-		Symbol sym = table.lookup(varDef.name, true);
+		// 祖先类中的同名成员由checkOverride处理，全局的类名可以被遮盖
+		Symbol sym = table.lookupDeclared(varDef.name);
 		if (sym != null) {
-			if (table.getCurrentScope().equals(sym.getScope())) {
-				issueError(new DeclConflictError(v.getLocation(), v.getName(),
-						sym.getLocation()));
-			} else if ((sym.getScope().isFormalScope() || sym.getScope()
-					.isLocalScope())) {
-				issueError(new DeclConflictError(v.getLocation(), v.getName(),
-						sym.getLocation()));
-			} else {
-				table.declare(v);
-			}
+			issueError(new DeclConflictError(v.getLocation(), v.getName(),
+					sym.getLocation()));
 		} else {
 			table.declare(v);
 		}
@@ -134,9 +344,23 @@ public class BuildSym extends Tree.Visitor {
 
 	@Override
 	public void visitMethodDef(Tree.MethodDef funcDef) {
+		Hotspots hotspots = Driver.getDriver().getHotspots();
+		long[] start = hotspots == null ? null : hotspots.start();
+		declareMethod(funcDef);
+		table.open(funcDef.symbol.getAssociatedScope());
+		funcDef.body.accept(this);
+		table.close();
+		if (hotspots != null) {
+			hotspots.built(((ClassScope) table.lookForScope(Scope.Kind.CLASS))
+					.getOwner(), funcDef, start);
+		}
+	}
+
+	private void declareMethod(Tree.MethodDef funcDef) {
 		funcDef.returnType.accept(this);
 		Function f = new Function(funcDef.statik, funcDef.name,
-				funcDef.returnType.type, funcDef.body, funcDef.getLocation());
+				funcDef.returnType.type, funcDef.body, funcDef.getLocation(),
+				((ClassScope) table.lookForScope(Scope.Kind.CLASS)).getOwner());
 		funcDef.symbol = f;
 		Symbol sym = table.lookup(funcDef.name, false);
 		if (sym != null) {
@@ -150,7 +374,7 @@ public class BuildSym extends Tree.Visitor {
 			d.accept(this);
 			f.appendParam(d.symbol);
 		}
-		funcDef.body.accept(this);
+		f.internType(Driver.getDriver().getTypeTable());
 		table.close();
 	}
 
@@ -196,18 +420,22 @@ public class BuildSym extends Tree.Visitor {
 			issueError(new BadArrElementError(typeArray.getLocation()));
 			typeArray.type = BaseType.ERROR;
 		} else {
-			typeArray.type = new decaf.type.ArrayType(
-					typeArray.elementType.type);
+			typeArray.type = typeArray.elementType.type.arrayOf();
 		}
 	}
 
 	// for VarDecl in LocalScope
 	@Override
 	public void visitBlock(Tree.Block block) {
-		block.associatedScope = new LocalScope(block);
+		Driver.getDriver().getBudget().check();
+		block.associatedScope = new LocalScope(block.getLocation());
 		table.open(block.associatedScope);
 		for (Tree s : block.block) {
 			s.accept(this);
+			if (s instanceof Tree.Block) {
+				block.associatedScope
+						.addChild(((Tree.Block) s).associatedScope);
+			}
 		}
 		table.close();
 	}
@@ -243,71 +471,121 @@ public class BuildSym extends Tree.Visitor {
 		}
 	}
 
-	private int calcOrder(Class c) {
-		if (c == null) {
-			return -1;
+	/**
+	 * 绑定各个类的父类并断开继承环。每条父类链只走一遍：沿链前进直到遇到已处理的类，
+	 * 若遇到的是本次路径上的类则发现了一个新环，断开指向环入口的那个类的继承关系
+	 */
+	private ClassHierarchy resolveHierarchy(Tree.TopLevel program) {
+		List<Class> classes = new ArrayList<Class>(program.classes.size());
+		for (Tree.ClassDef cd : program.classes) {
+			Class c = cd.symbol;
+			if (cd.parent != null) {
+				Class parent = table.lookupClass(cd.parent);
+				if (parent == null) {
+					issueError(new ClassNotFoundError(cd.getLocation(), cd.parent));
+					c.dettachParent();
+				} else {
+					c.bindParent(parent);
+				}
+			}
+			classes.add(c);
 		}
-		if (c.getOrder() < 0) {
-			c.setOrder(0);
-			c.setOrder(calcOrder(c.getParent()) + 1);
+
+		Map<Class, Boolean> onPath = new IdentityHashMap<Class, Boolean>();
+		List<Class> path = new ArrayList<Class>();
+		for (Class c : classes) {
+			path.clear();
+			Class p = c;
+			while (p != null && !onPath.containsKey(p)) {
+				onPath.put(p, Boolean.TRUE);
+				path.add(p);
+				p = p.getParent();
+			}
+			if (p != null && onPath.get(p)) {
+				Class last = path.get(path.size() - 1);
+				issueError(new BadInheritanceError(last.getLocation()));
+				last.dettachParent();
+			}
+			for (Class q : path) {
+				onPath.put(q, Boolean.FALSE);
+			}
 		}
-		return c.getOrder();
+		return new ClassHierarchy(classes);
 	}
 
-	private void checkOverride(Class c) {
-		if (c.isCheck()) {
-			return;
-		}
+	/**
+	 * 按拓扑序调用，父类先于子类检查，检查时将父类展平的成员表与子类自己的成员合并，
+	 * 得到子类的成员表与虚表
+	 */
+	void checkOverride(Class c) {
 		Class parent = c.getParent();
-		if (parent == null) {
-			return;
+		Map<String, Symbol> inherited = Collections.emptyMap();
+		Map<String, Symbol> members = new HashMap<String, Symbol>();
+		List<Function> virtualTable = new ArrayList<Function>();
+		if (parent != null) {
+			inherited = parent.getAssociatedScope().getMembers();
+			members.putAll(inherited);
+			virtualTable.addAll(parent.getAssociatedScope().getVirtualTable());
 		}
-		checkOverride(parent);
 
-		ClassScope parentScope = parent.getAssociatedScope();
 		ClassScope subScope = c.getAssociatedScope();
-		table.open(parentScope);
 		Iterator<Symbol> iter = subScope.iterator();
 		while (iter.hasNext()) {
 			Symbol suspect = iter.next();
-			Symbol sym = table.lookup(suspect.getName(), true);
-			if (sym != null && !sym.isClass()) {
+			Symbol sym = inherited.get(suspect.getName());
+			if (sym != null) {
 				if ((suspect.isVariable() && sym.isFunction())
 						|| (suspect.isFunction() && sym.isVariable())) {
 					issueError(new DeclConflictError(suspect.getLocation(),
 							suspect.getName(), sym.getLocation()));
 					iter.remove();
+					continue;
 				} else if (suspect.isFunction()) {
 					if (((Function) suspect).isStatik()
 							|| ((Function) sym).isStatik()) {
 						issueError(new DeclConflictError(suspect.getLocation(),
 								suspect.getName(), sym.getLocation()));
 						iter.remove();
+						continue;
 					} else if (!suspect.getType().compatible(sym.getType())) {
 						issueError(new BadOverrideError(suspect.getLocation(),
 								suspect.getName(),
 								((ClassScope) sym.getScope()).getOwner()
 										.getName()));
 						iter.remove();
+						continue;
 					}
 				} else if (suspect.isVariable()) {
 					issueError(new OverridingVarError(suspect.getLocation(),
 							suspect.getName()));
 					iter.remove();
+					continue;
+				}
+			}
+			members.put(suspect.getName(), suspect);
+			if (suspect.isFunction() && !((Function) suspect).isStatik()) {
+				Function f = (Function) suspect;
+				if (sym != null) {
+					f.setOffset(((Function) sym).getOffset());
+					virtualTable.set(f.getOffset(), f);
+				} else {
+					f.setOffset(virtualTable.size());
+					virtualTable.add(f);
 				}
 			}
 		}
-		table.close();
+		subScope.setMembers(members, virtualTable);
+		subScope.seal();
+		c.setNumNonStaticFunc(virtualTable.size());
 		c.setCheck(true);
 	}
 
-	private boolean isMainClass(Class c) {
+	boolean isMainClass(Class c) {
 		if (c == null) {
 			return false;
 		}
-		table.open(c.getAssociatedScope());
-		Symbol main = table.lookup(Driver.getDriver().getOption()
-				.getMainFuncName(), false);
+		Symbol main = c.getAssociatedScope().lookup(
+				Driver.getDriver().getOption().getMainFuncName());
 		if (main == null || !main.isFunction()) {
 			return false;
 		}
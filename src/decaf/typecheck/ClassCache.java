@@ -0,0 +1,253 @@
+package decaf.typecheck;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import decaf.Driver;
+import decaf.Location;
+import decaf.error.CachedError;
+import decaf.error.DecafError;
+import decaf.scope.GlobalScope;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Symbol;
+import decaf.tree.Tree;
+import decaf.type.ArrayType;
+import decaf.type.ClassType;
+import decaf.type.FuncType;
+import decaf.type.Type;
+
+/**
+ * 跨编译共享的类型检查结果缓存<br>
+ * 以类的结构散列（位置取相对于类定义的行号）以及它可能用到的所有类的签名散列为键，
+ * 保存该类的类型检查错误。同一进程中再次遇到相同的类时直接重放这些错误而不再检查。<br>
+ * 符号表仍由BuildSym为每次编译重新建立，因此命中时语法树上的表达式不带类型标注，
+ * 只适用于LEVEL1。
+ */
+public final class ClassCache {
+
+	private static final int CAPACITY = 4096;
+
+	private static final ClassCache instance = new ClassCache();
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > CAPACITY;
+		}
+
+	};
+
+	private long lookups;
+
+	private long hits;
+
+	private long savedNanos;
+
+	private long hashNanos;
+
+	private ClassCache() {
+	}
+
+	public static ClassCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * 为一次编译建立会话，会话内缓存各个类的签名散列
+	 */
+	public Session openSession(GlobalScope globalScope) {
+		return new Session(globalScope);
+	}
+
+	private synchronized Entry lookup(Key key, long nanos) {
+		lookups++;
+		hashNanos += nanos;
+		Entry e = entries.get(key);
+		if (e != null) {
+			hits++;
+			savedNanos += e.nanos;
+		}
+		return e;
+	}
+
+	private synchronized void store(Key key, Entry entry) {
+		entries.put(key, entry);
+	}
+
+	/**
+	 * 输出命中率与节省的时间
+	 */
+	public synchronized void report(PrintStream out) {
+		out.printf("class cache: %d lookups, %d hits (%.1f%%), "
+				+ "saved %.3f ms of type checking, %.3f ms spent hashing%n",
+				lookups, hits, lookups == 0 ? 0.0 : hits * 100.0 / lookups,
+				savedNanos / 1e6, hashNanos / 1e6);
+	}
+
+	public final class Session {
+
+		private GlobalScope globalScope;
+
+		private Map<Class, Hasher> signatures = new IdentityHashMap<Class, Hasher>();
+
+		private Session(GlobalScope globalScope) {
+			this.globalScope = globalScope;
+		}
+
+		public Key keyOf(Tree.ClassDef classDef) {
+			long start = System.nanoTime();
+			StructureHasher sh = new StructureHasher(classDef.getLocation()
+					.getLine());
+			classDef.accept(sh);
+
+			// 类体中出现的名字若是类名，则结果依赖于该类；否则依赖于它不是类名
+			Map<String, Class> closure = new TreeMap<String, Class>();
+			List<Class> work = new ArrayList<Class>();
+			work.add(classDef.symbol);
+			for (String name : sh.names) {
+				Class c = (Class) globalScope.lookup(name);
+				sh.hasher.mix(name);
+				sh.hasher.mix(c == null ? 0 : 1);
+				if (c != null) {
+					work.add(c);
+				}
+			}
+			// 沿父类与成员类型求可达类的闭包
+			while (!work.isEmpty()) {
+				Class c = work.remove(work.size() - 1);
+				if (closure.containsKey(c.getName())) {
+					continue;
+				}
+				closure.put(c.getName(), c);
+				if (c.getParent() != null) {
+					work.add(c.getParent());
+				}
+				Iterator<Symbol> iter = c.getAssociatedScope().iterator();
+				while (iter.hasNext()) {
+					collectClasses(iter.next().getType(), work);
+				}
+			}
+			for (Class c : closure.values()) {
+				Hasher sig = signatureOf(c);
+				sh.hasher.mix(sig.h1);
+				sh.hasher.mix(sig.h2);
+			}
+			Key key = new Key(sh.hasher.h1, sh.hasher.h2);
+			key.nanos = System.nanoTime() - start;
+			return key;
+		}
+
+		/**
+		 * 若命中则以classDef的位置为基准重放缓存的错误
+		 *
+		 * @return 是否命中
+		 */
+		public boolean replay(Key key, Tree.ClassDef classDef) {
+			Entry e = lookup(key, key.nanos);
+			if (e == null) {
+				return false;
+			}
+			int base = classDef.getLocation().getLine();
+			for (CachedError error : e.errors) {
+				Location loc = error.getLocation();
+				Driver.getDriver().issueError(
+						error.relocate(new Location(base + loc.getLine(), loc
+								.getColumn())));
+			}
+			return true;
+		}
+
+		public void store(Key key, Tree.ClassDef classDef,
+				List<DecafError> errors, long nanos) {
+			int base = classDef.getLocation().getLine();
+			Entry e = new Entry();
+			e.nanos = nanos;
+			e.errors = new CachedError[errors.size()];
+			for (int i = 0; i < e.errors.length; i++) {
+				Location loc = errors.get(i).getLocation();
+				e.errors[i] = new CachedError(new Location(loc.getLine() - base,
+						loc.getColumn()), errors.get(i));
+			}
+			ClassCache.this.store(key, e);
+		}
+
+		private Hasher signatureOf(Class c) {
+			Hasher sig = signatures.get(c);
+			if (sig == null) {
+				sig = new Hasher();
+				sig.mix(c.getName());
+				sig.mix(c.getParent() == null ? null : c.getParent().getName());
+				Iterator<Symbol> iter = c.getAssociatedScope().iterator();
+				while (iter.hasNext()) {
+					Symbol s = iter.next();
+					sig.mix(s.getName());
+					sig.mix(s.isFunction() ? (((Function) s).isStatik() ? 2 : 1)
+							: 0);
+					sig.mix(s.getType().toString());
+				}
+				signatures.put(c, sig);
+			}
+			return sig;
+		}
+
+		private void collectClasses(Type type, List<Class> work) {
+			if (type.isClassType()) {
+				work.add(((ClassType) type).getSymbol());
+			} else if (type.isArrayType()) {
+				collectClasses(((ArrayType) type).getElementType(), work);
+			} else if (type.isFuncType()) {
+				FuncType ft = (FuncType) type;
+				collectClasses(ft.getReturnType(), work);
+				for (Type t : ft.getArgList()) {
+					collectClasses(t, work);
+				}
+			}
+		}
+	}
+
+	public static final class Key {
+
+		private final long h1;
+
+		private final long h2;
+
+		private long nanos;
+
+		private Key(long h1, long h2) {
+			this.h1 = h1;
+			this.h2 = h2;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key k = (Key) obj;
+			return h1 == k.h1 && h2 == k.h2;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (h1 ^ (h1 >>> 32));
+		}
+	}
+
+	private static final class Entry {
+
+		private long nanos;
+
+		private CachedError[] errors;
+	}
+}
@@ -0,0 +1,173 @@
+package decaf.typecheck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import decaf.Driver;
+import decaf.error.DecafError;
+import decaf.frontend.BaseParser;
+import decaf.scope.ScopeExporter;
+import decaf.scope.ScopeStack;
+import decaf.symbol.Class;
+import decaf.tree.Tree;
+import decaf.utils.IndentPrintWriter;
+
+/**
+ * 逐个类的LEVEL1流水线（-l 1 -stream）<br>
+ * 第一遍语法分析时用SIGNATURES丢弃方法体，只为类与成员的声明建立符号。然后把同一
+ * 源程序再分析一遍，每归约出一个类，就在已有的符号上建立其方法体中的作用域、检查类型、
+ * 输出该类的作用域，随即丢弃这个类的语法树。任何时刻只有一个类的方法体在内存中。<br>
+ * 与融合模式相同，声明有错误时仍建立全部方法体的作用域以报告其中的声明错误，
+ * 但不再检查类型。一个类的错误不影响在它之前的类，因此每个类检查完且没有错误就立即
+ * 输出；一旦有错误便不再输出，已输出的部分保留。第一遍发现的语法与声明错误都在
+ * 输出任何类之前，此时什么也不输出
+ */
+public final class ClassPipeline implements BaseParser.ClassListener {
+
+	/**
+	 * 第一遍使用：丢弃各个方法的方法体，类仍加入语法树
+	 */
+	public static final BaseParser.ClassListener SIGNATURES = new BaseParser.ClassListener() {
+
+		@Override
+		public boolean classParsed(Tree.ClassDef classDef) {
+			for (Tree f : classDef.fields) {
+				if (f.tag == Tree.METHODDEF) {
+					((Tree.MethodDef) f).body = null;
+				}
+			}
+			return true;
+		}
+
+	};
+
+	private final Tree.TopLevel program;
+
+	private final IndentPrintWriter pw;
+
+	/**
+	 * 不为null时代替pw
+	 */
+	private final ScopeExporter exporter;
+
+	private final List<DecafError> declErrors = new ArrayList<DecafError>();
+
+	private final List<DecafError> typeErrors = new ArrayList<DecafError>();
+
+	/**
+	 * 类与成员的声明没有错误
+	 */
+	private final boolean checkTypes;
+
+	private int next;
+
+	/**
+	 * @param program
+	 *            第一遍的语法树，声明已建立
+	 * @param exporter
+	 *            -export时导出作用域，否则为null，以文本输出到pw
+	 */
+	public ClassPipeline(Tree.TopLevel program, IndentPrintWriter pw,
+			ScopeExporter exporter) {
+		this.program = program;
+		this.pw = pw;
+		this.exporter = exporter;
+		checkTypes = !Driver.getDriver().hasErrors();
+		if (checkTypes) {
+			ResolveSlots.resolveFields(program);
+			if (exporter != null) {
+				exporter.beginGlobal(program.globalScope);
+			} else {
+				program.globalScope.printHeader(pw);
+			}
+		}
+	}
+
+	/**
+	 * 第二遍每归约出一个类调用一次，类的次序与第一遍相同
+	 */
+	@Override
+	public boolean classParsed(Tree.ClassDef classDef) {
+		Tree.ClassDef declared = program.classes.get(next++);
+		classDef.symbol = declared.symbol;
+		for (int i = 0; i < classDef.fields.size(); i++) {
+			if (classDef.fields.get(i).tag == Tree.METHODDEF) {
+				bind((Tree.MethodDef) classDef.fields.get(i),
+						(Tree.MethodDef) declared.fields.get(i));
+			}
+		}
+
+		ScopeStack table = new ScopeStack();
+		table.open(program.globalScope);
+		BuildSym builder = new BuildSym(table);
+		builder.buffer = declErrors;
+		for (Tree f : classDef.fields) {
+			if (f.tag == Tree.METHODDEF) {
+				builder.buildBody(classDef, (Tree.MethodDef) f);
+			}
+		}
+		if (!checkTypes || !declErrors.isEmpty()) {
+			release(classDef);
+			return false;
+		}
+		for (Tree f : classDef.fields) {
+			if (f.tag == Tree.METHODDEF) {
+				TypeCheck.checkMethod(program, classDef, (Tree.MethodDef) f,
+						typeErrors, null, null, false);
+			}
+		}
+
+		Class c = classDef.symbol;
+		if (typeErrors.isEmpty() && !Driver.getDriver().hasErrors()) {
+			ResolveSlots.resolveMethods(classDef);
+			if (exporter != null) {
+				exporter.exportClass(c.getAssociatedScope());
+			} else {
+				c.getAssociatedScope().printTo(pw);
+			}
+		}
+		release(classDef);
+		return false;
+	}
+
+	/**
+	 * 第二遍结束后调用：结束输出并交出错误
+	 */
+	public void finish() {
+		if (checkTypes && exporter != null) {
+			exporter.endGlobal();
+		} else if (checkTypes) {
+			pw.decIndent();
+			pw.flush();
+		}
+		for (DecafError error : declErrors) {
+			Driver.getDriver().issueError(error);
+		}
+		if (declErrors.isEmpty()) {
+			for (DecafError error : typeErrors) {
+				Driver.getDriver().issueError(error);
+			}
+		}
+	}
+
+	private void release(Tree.ClassDef classDef) {
+		for (Tree f : classDef.fields) {
+			if (f.tag == Tree.METHODDEF) {
+				Tree.MethodDef method = (Tree.MethodDef) f;
+				method.symbol.getAssociatedScope().releaseBody();
+				method.body = null;
+			}
+		}
+	}
+
+	/**
+	 * 让第二遍的方法定义使用第一遍建立的符号
+	 */
+	private void bind(Tree.MethodDef method, Tree.MethodDef declared) {
+		method.symbol = declared.symbol;
+		for (int i = 0; i < method.formals.size(); i++) {
+			method.formals.get(i).symbol = declared.formals.get(i).symbol;
+		}
+		method.symbol.getAssociatedScope().setBody(method.body);
+	}
+}
@@ -0,0 +1,28 @@
+package decaf.typecheck;
+
+/**
+ * 128位散列，由两个独立的64位散列组成
+ */
+final class Hasher {
+
+	long h1 = 0xCBF29CE484222325L;
+
+	long h2 = 0x9E3779B97F4A7C15L;
+
+	void mix(long v) {
+		h1 = (h1 ^ v) * 0x100000001B3L;
+		h2 = Long.rotateLeft(h2 ^ (v * 0xBF58476D1CE4E5B9L), 27)
+				* 0x94D049BB133111EBL;
+	}
+
+	void mix(String s) {
+		if (s == null) {
+			mix(-1);
+			return;
+		}
+		mix(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			mix(s.charAt(i));
+		}
+	}
+}
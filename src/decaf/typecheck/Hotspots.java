@@ -0,0 +1,138 @@
+package decaf.typecheck;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import decaf.Location;
+import decaf.symbol.Class;
+import decaf.tree.Tree;
+
+/**
+ * 逐个方法的耗时统计（-hotspots N）<br>
+ * 记录每个方法在BuildSym中建立局部作用域、在TypeCheck中检查方法体所用的时间与
+ * 当前线程分配的字节数，以及检查时lookupVisible与lookupBeforeLocation的调用次数，
+ * 编译结束后按总时间输出最慢的若干个方法。同一个方法的两遍先后进行，
+ * 各个方法可以在不同的线程中统计
+ */
+public final class Hotspots {
+
+	private static final Comparator<Entry> SLOWEST_FIRST = new Comparator<Entry>() {
+
+		@Override
+		public int compare(Entry o1, Entry o2) {
+			return Long.compare(o2.buildNanos + o2.checkNanos, o1.buildNanos
+					+ o1.checkNanos);
+		}
+
+	};
+
+	private final ConcurrentHashMap<Tree.MethodDef, Entry> entries = new ConcurrentHashMap<Tree.MethodDef, Entry>();
+
+	/**
+	 * 不能统计线程分配的字节数时为null
+	 */
+	private final com.sun.management.ThreadMXBean threads;
+
+	public Hotspots() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory
+				.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean)
+						.isThreadAllocatedMemorySupported()) {
+			threads = (com.sun.management.ThreadMXBean) bean;
+			threads.setThreadAllocatedMemoryEnabled(true);
+		} else {
+			threads = null;
+		}
+	}
+
+	/**
+	 * 开始统计一遍中的一个方法
+	 *
+	 * @return 当前的时间与当前线程已分配的字节数，交给built或checked
+	 */
+	long[] start() {
+		return new long[] { System.nanoTime(), allocatedBytes() };
+	}
+
+	void built(Class owner, Tree.MethodDef method, long[] start) {
+		Entry e = entry(owner, method);
+		e.buildNanos += System.nanoTime() - start[0];
+		e.buildBytes += allocatedBytes() - start[1];
+	}
+
+	void checked(Class owner, Tree.MethodDef method, long[] start,
+			int visibleLookups, int localLookups) {
+		Entry e = entry(owner, method);
+		e.checkNanos += System.nanoTime() - start[0];
+		e.checkBytes += allocatedBytes() - start[1];
+		e.visibleLookups += visibleLookups;
+		e.localLookups += localLookups;
+	}
+
+	/**
+	 * 输出总时间最长的n个方法
+	 */
+	public void report(PrintStream out, int n) {
+		List<Entry> sorted = new ArrayList<Entry>(entries.values());
+		Collections.sort(sorted, SLOWEST_FIRST);
+		out.printf("hotspots: %d slowest of %d methods%n", Math.min(n,
+				sorted.size()), sorted.size());
+		out.printf("    %-12s %-32s %10s %10s %10s %10s %8s %8s%n",
+				"location", "method", "total ms", "build ms", "check ms",
+				"alloc KB", "visible", "before");
+		for (Entry e : sorted.subList(0, Math.min(n, sorted.size()))) {
+			out.printf("    %-12s %-32s %10.3f %10.3f %10.3f %10s %8d %8d%n",
+					e.location, e.name, (e.buildNanos + e.checkNanos) / 1e6,
+					e.buildNanos / 1e6, e.checkNanos / 1e6, threads == null ? "-"
+							: String.valueOf((e.buildBytes + e.checkBytes) / 1024),
+					e.visibleLookups, e.localLookups);
+		}
+	}
+
+	private long allocatedBytes() {
+		return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+	}
+
+	private Entry entry(Class owner, Tree.MethodDef method) {
+		Entry e = entries.get(method);
+		if (e == null) {
+			e = new Entry(owner.getName() + "." + method.name, method
+					.getLocation());
+			Entry earlier = entries.putIfAbsent(method, e);
+			if (earlier != null) {
+				e = earlier;
+			}
+		}
+		return e;
+	}
+
+	private static final class Entry {
+
+		private final String name;
+
+		private final Location location;
+
+		private long buildNanos;
+
+		private long buildBytes;
+
+		private long checkNanos;
+
+		private long checkBytes;
+
+		private int visibleLookups;
+
+		private int localLookups;
+
+		private Entry(String name, Location location) {
+			this.name = name;
+			this.location = location;
+		}
+	}
+}
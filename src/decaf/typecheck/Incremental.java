@@ -0,0 +1,257 @@
+package decaf.typecheck;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import decaf.Location;
+import decaf.error.CachedError;
+import decaf.error.DecafError;
+import decaf.scope.ClassScope;
+import decaf.scope.GlobalScope;
+import decaf.symbol.Class;
+import decaf.symbol.Function;
+import decaf.symbol.Symbol;
+import decaf.tree.Tree;
+import decaf.type.ArrayType;
+import decaf.type.ClassType;
+import decaf.type.FuncType;
+import decaf.type.Type;
+
+/**
+ * 增量类型检查<br>
+ * 把同一进程中先后编译的源文件看作同一程序的各个版本。检查每个方法体时记录它依赖的
+ * 查询：某个类中某个名字的成员（含继承的），以及某个类是否存在及其祖先链。
+ * 再次编译时，方法体的结构散列（行号相对于方法定义）不变、且各个查询在新的符号表上
+ * 的结果都与上次相同的方法不再检查，直接按新位置重放上次的错误。<br>
+ * 符号表仍由BuildSym重新建立（其中的位置来自新的语法树），与ClassCache一样，
+ * 被跳过的方法体上没有类型标注，只适用于LEVEL1。
+ */
+public final class Incremental {
+
+	private static final Incremental instance = new Incremental();
+
+	/**
+	 * 上一个版本中各个方法的检查结果，以“类名.方法名”为键
+	 */
+	private Map<String, Entry> previous = new HashMap<String, Entry>();
+
+	private Session last;
+
+	private Incremental() {
+	}
+
+	public static Incremental getInstance() {
+		return instance;
+	}
+
+	public synchronized Session openSession(GlobalScope globalScope) {
+		return new Session(globalScope, previous);
+	}
+
+	private synchronized void commit(Session session) {
+		previous = new HashMap<String, Entry>(session.current);
+		last = session;
+	}
+
+	/**
+	 * 输出上次report之后提交的检查中重新检查的方法个数与所用时间，
+	 * 其间没有提交（如编译在检查类型之前停止）时不输出
+	 */
+	public synchronized void report(PrintStream out) {
+		if (last == null) {
+			return;
+		}
+		out.printf("incremental: rechecked %d of %d method bodies "
+				+ "in %.3f ms%n", last.rechecked.get(), last.methods.get(),
+				last.nanos.get() / 1e6);
+		last = null;
+	}
+
+	/**
+	 * 成员查询，结果为c中（含继承的）名为name的成员
+	 */
+	public static String memberQuery(Class c, String name) {
+		return "m:" + c.getName() + "." + name;
+	}
+
+	/**
+	 * 类查询，结果为名为name的类的祖先链
+	 */
+	public static String classQuery(String name) {
+		return "c:" + name;
+	}
+
+	/**
+	 * 把type中出现的所有类的类查询加入deps
+	 */
+	public static void addClassQueries(Set<String> deps, Type type) {
+		if (type == null) {
+			return;
+		}
+		if (type.isClassType()) {
+			deps.add(classQuery(((ClassType) type).getSymbol().getName()));
+		} else if (type.isArrayType()) {
+			addClassQueries(deps, ((ArrayType) type).getElementType());
+		} else if (type.isFuncType()) {
+			FuncType ft = (FuncType) type;
+			addClassQueries(deps, ft.getReturnType());
+			for (Type t : ft.getArgList()) {
+				addClassQueries(deps, t);
+			}
+		}
+	}
+
+	public final class Session {
+
+		private GlobalScope globalScope;
+
+		private Map<String, Entry> previous;
+
+		private Map<String, Entry> current = new ConcurrentHashMap<String, Entry>();
+
+		private Map<String, String> answers = new ConcurrentHashMap<String, String>();
+
+		private AtomicInteger methods = new AtomicInteger();
+
+		private AtomicInteger rechecked = new AtomicInteger();
+
+		private AtomicLong nanos = new AtomicLong();
+
+		private long start = System.nanoTime();
+
+		private Session(GlobalScope globalScope, Map<String, Entry> previous) {
+			this.globalScope = globalScope;
+			this.previous = previous;
+		}
+
+		public Key keyOf(Class owner, Tree.MethodDef method) {
+			StructureHasher sh = new StructureHasher(method.getLocation()
+					.getLine());
+			method.accept(sh);
+			return new Key(owner.getName() + "." + method.name, sh.hasher.h1,
+					sh.hasher.h2);
+		}
+
+		/**
+		 * 若上一版本中该方法的文本与全部依赖都没有变，返回按新位置重放的错误，否则返回null
+		 */
+		public List<DecafError> replay(Key key, Tree.MethodDef method) {
+			methods.incrementAndGet();
+			Entry e = previous.get(key.name);
+			if (e == null || e.h1 != key.h1 || e.h2 != key.h2) {
+				return null;
+			}
+			for (Map.Entry<String, String> dep : e.deps.entrySet()) {
+				if (!dep.getValue().equals(answer(dep.getKey()))) {
+					return null;
+				}
+			}
+			current.put(key.name, e);
+			int base = method.getLocation().getLine();
+			List<DecafError> errors = new ArrayList<DecafError>(e.errors.length);
+			for (CachedError error : e.errors) {
+				Location loc = error.getLocation();
+				errors.add(error.relocate(new Location(base + loc.getLine(),
+						loc.getColumn())));
+			}
+			return errors;
+		}
+
+		public void store(Key key, Tree.MethodDef method, Set<String> deps,
+				List<DecafError> errors) {
+			rechecked.incrementAndGet();
+			Entry e = new Entry();
+			e.h1 = key.h1;
+			e.h2 = key.h2;
+			e.deps = new HashMap<String, String>();
+			for (String q : deps) {
+				e.deps.put(q, answer(q));
+			}
+			int base = method.getLocation().getLine();
+			e.errors = new CachedError[errors.size()];
+			for (int i = 0; i < e.errors.length; i++) {
+				Location loc = errors.get(i).getLocation();
+				e.errors[i] = new CachedError(new Location(loc.getLine() - base,
+						loc.getColumn()), errors.get(i));
+			}
+			current.put(key.name, e);
+		}
+
+		/**
+		 * 全部方法检查完毕后调用，本版本的结果成为下次比较的基准
+		 */
+		public void commit() {
+			nanos.set(System.nanoTime() - start);
+			Incremental.this.commit(this);
+		}
+
+		private String answer(String query) {
+			String a = answers.get(query);
+			if (a == null) {
+				a = query.startsWith("m:") ? answerMember(query.substring(2))
+						: answerClass(query.substring(2));
+				answers.put(query, a);
+			}
+			return a;
+		}
+
+		private String answerClass(String name) {
+			StringBuilder sb = new StringBuilder();
+			for (Class c = (Class) globalScope.lookup(name); c != null; c = c
+					.getParent()) {
+				sb.append(c.getName()).append(':');
+			}
+			return sb.toString();
+		}
+
+		private String answerMember(String query) {
+			int dot = query.indexOf('.');
+			Class c = (Class) globalScope.lookup(query.substring(0, dot));
+			if (c == null) {
+				return "";
+			}
+			Symbol s = c.getAssociatedScope().lookupVisible(
+					query.substring(dot + 1));
+			if (s == null) {
+				return "";
+			}
+			String kind = s.isVariable() ? "var" : (s.isFunction()
+					&& ((Function) s).isStatik() ? "static" : "method");
+			return kind + " " + s.getType() + " in "
+					+ ((ClassScope) s.getScope()).getOwner().getName();
+		}
+	}
+
+	public static final class Key {
+
+		private final String name;
+
+		private final long h1;
+
+		private final long h2;
+
+		private Key(String name, long h1, long h2) {
+			this.name = name;
+			this.h1 = h1;
+			this.h2 = h2;
+		}
+	}
+
+	private static final class Entry {
+
+		private long h1;
+
+		private long h2;
+
+		private Map<String, String> deps;
+
+		private CachedError[] errors;
+	}
+}
@@ -0,0 +1,225 @@
+package decaf.typecheck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import decaf.Driver;
+import decaf.Location;
+import decaf.error.DecafError;
+import decaf.error.NoMainClassError;
+import decaf.scope.ClassScope;
+import decaf.scope.ScopeStack;
+import decaf.symbol.Class;
+import decaf.tree.Tree;
+import decaf.tree.TreeScanner;
+import decaf.type.Type;
+
+/**
+ * 按需进行的语义分析<br>
+ * 建立时只声明全部的类并解析继承关系。类的成员在第一次被查找时才建立（连同尚未建立的
+ * 祖先类），方法体在第一次被查询时才建立局部作用域并检查类型。每个查询的结果都被记住。<br>
+ * 只在一个线程中使用。与Driver的整遍分析互斥，一个程序只能用其中一种方式分析
+ */
+public final class QueryEngine {
+
+	private static final Comparator<DecafError> BY_LOCATION = new Comparator<DecafError>() {
+
+		@Override
+		public int compare(DecafError o1, DecafError o2) {
+			return o1.getLocation().compareTo(o2.getLocation());
+		}
+
+	};
+
+	private final Tree.TopLevel program;
+
+	private final List<DecafError> programErrors = new ArrayList<DecafError>();
+
+	private boolean programChecked;
+
+	private final Map<Class, Tree.ClassDef> classDefs = new IdentityHashMap<Class, Tree.ClassDef>();
+
+	private final Map<Class, List<DecafError>> memberErrors = new IdentityHashMap<Class, List<DecafError>>();
+
+	private final Map<Tree.MethodDef, List<DecafError>> methodErrors = new IdentityHashMap<Tree.MethodDef, List<DecafError>>();
+
+	public QueryEngine(Tree.TopLevel program) {
+		this.program = program;
+		BuildSym builder = new BuildSym(new ScopeStack());
+		builder.buffer = programErrors;
+		builder.declareClasses(program);
+		for (Tree.ClassDef cd : program.classes) {
+			final Class c = cd.symbol;
+			classDefs.put(c, cd);
+			c.getAssociatedScope().setLoader(new Runnable() {
+
+				@Override
+				public void run() {
+					membersOf(c);
+				}
+
+			});
+		}
+	}
+
+	/**
+	 * @return 类的声明、继承关系与主类的错误
+	 */
+	public List<DecafError> programDiagnostics() {
+		if (!programChecked) {
+			programChecked = true;
+			String name = Driver.getDriver().getOption().getMainClassName();
+			for (Tree.ClassDef cd : program.classes) {
+				if (name.equals(cd.name)) {
+					program.main = cd.symbol;
+				}
+			}
+			if (!newBuilder(programErrors).isMainClass(program.main)) {
+				programErrors.add(new NoMainClassError(name));
+			}
+			Collections.sort(programErrors, BY_LOCATION);
+		}
+		return programErrors;
+	}
+
+	/**
+	 * 建立c及其尚未建立的祖先类的成员，并展平成员表
+	 */
+	public ClassScope membersOf(Class c) {
+		List<Class> chain = new ArrayList<Class>();
+		for (Class k = c; k != null && !memberErrors.containsKey(k); k = k
+				.getParent()) {
+			k.getAssociatedScope().setLoader(null);
+			memberErrors.put(k, new ArrayList<DecafError>());
+			chain.add(k);
+		}
+		for (int i = chain.size() - 1; i >= 0; i--) {
+			Class k = chain.get(i);
+			List<DecafError> errors = memberErrors.get(k);
+			BuildSym builder = newBuilder(errors);
+			builder.declareMembers(classDefs.get(k));
+			builder.checkOverride(k);
+			Collections.sort(errors, BY_LOCATION);
+		}
+		return c.getAssociatedScope();
+	}
+
+	public List<DecafError> memberDiagnostics(Class c) {
+		membersOf(c);
+		return memberErrors.get(c);
+	}
+
+	/**
+	 * 建立方法体中的作用域并检查类型，返回方法体中的错误
+	 */
+	public List<DecafError> diagnosticsFor(Tree.MethodDef method) {
+		List<DecafError> errors = methodErrors.get(method);
+		if (errors != null) {
+			return errors;
+		}
+		Tree.ClassDef cd = classAt(method.getLocation());
+		if (cd == null || !cd.fields.contains(method)) {
+			throw new IllegalArgumentException("method " + method.name
+					+ " is not in the program");
+		}
+		membersOf(cd.symbol);
+		errors = new ArrayList<DecafError>();
+		newBuilder(errors).buildBody(cd, method);
+		TypeCheck.checkMethod(program, cd, method, errors, null, null,
+				false);
+		Collections.sort(errors, BY_LOCATION);
+		methodErrors.put(method, errors);
+		return errors;
+	}
+
+	/**
+	 * @return expr的类型，按需检查它所在的方法
+	 */
+	public Type typeOf(Tree.Expr expr) {
+		Tree.MethodDef method = methodAt(expr.getLocation());
+		if (method != null) {
+			diagnosticsFor(method);
+		}
+		return expr.type;
+	}
+
+	/**
+	 * @return 包含位置loc的类定义，没有时返回null
+	 */
+	public Tree.ClassDef classAt(Location loc) {
+		List<Tree.ClassDef> classes = program.classes;
+		int lo = 0;
+		int hi = classes.size() - 1;
+		int found = -1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (classes.get(mid).getLocation().compareTo(loc) <= 0) {
+				found = mid;
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return found < 0 ? null : classes.get(found);
+	}
+
+	/**
+	 * @return 包含位置loc的方法定义，没有时返回null
+	 */
+	public Tree.MethodDef methodAt(Location loc) {
+		Tree.ClassDef cd = classAt(loc);
+		if (cd == null) {
+			return null;
+		}
+		Tree found = null;
+		for (Tree f : cd.fields) {
+			if (f.getLocation().compareTo(loc) > 0) {
+				break;
+			}
+			found = f;
+		}
+		if (found == null || found.tag != Tree.METHODDEF) {
+			return null;
+		}
+		return (Tree.MethodDef) found;
+	}
+
+	/**
+	 * @return 位于loc的最外层表达式（如调用而非被调用的方法名），没有时返回null
+	 */
+	public Tree.Expr exprAt(final Location loc) {
+		Tree.MethodDef method = methodAt(loc);
+		if (method == null) {
+			return null;
+		}
+		final Tree.Expr[] found = new Tree.Expr[1];
+		method.accept(new TreeScanner() {
+
+			@Override
+			public void scan(Tree tree) {
+				if (found[0] == null && tree instanceof Tree.Expr
+						&& tree.getLocation().compareTo(loc) == 0) {
+					found[0] = (Tree.Expr) tree;
+				}
+				super.scan(tree);
+			}
+
+		});
+		return found[0];
+	}
+
+	/**
+	 * @return 打开了全局作用域、错误放入errors的BuildSym
+	 */
+	private BuildSym newBuilder(List<DecafError> errors) {
+		ScopeStack table = new ScopeStack();
+		table.open(program.globalScope);
+		BuildSym builder = new BuildSym(table);
+		builder.buffer = errors;
+		return builder;
+	}
+}
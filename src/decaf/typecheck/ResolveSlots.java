@@ -0,0 +1,88 @@
+package decaf.typecheck;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import decaf.symbol.Class;
+import decaf.symbol.Symbol;
+import decaf.symbol.Variable;
+import decaf.tree.Tree;
+import decaf.tree.TreeScanner;
+
+/**
+ * 类型检查无误之后为变量编号，编号存入Variable.getOffset()<br>
+ * 成员变量按继承链编号，父类的字段在前；参数的槽号即其次序（非静态方法的this为0），
+ * 局部变量按出现次序接在参数之后，每个方法内连续编号。每个Ident记下所指变量的编号，
+ * 此后的各遍可按(lvKind, slot)直接访问变量。被ClassCache或Incremental跳过的方法体
+ * 没有类型标注，其中的Ident也不编号
+ */
+public final class ResolveSlots extends TreeScanner {
+
+	private int nextSlot;
+
+	private ResolveSlots() {
+	}
+
+	public static void resolve(Tree.TopLevel program) {
+		resolveFields(program);
+		program.accept(new ResolveSlots());
+	}
+
+	/**
+	 * 只为成员变量编号
+	 */
+	public static void resolveFields(Tree.TopLevel program) {
+		Map<Class, Tree.ClassDef> classDefs = new IdentityHashMap<Class, Tree.ClassDef>();
+		for (Tree.ClassDef cd : program.classes) {
+			classDefs.put(cd.symbol, cd);
+		}
+		for (Class c : program.hierarchy.getTopologicalOrder()) {
+			int n = c.getParent() == null ? 0 : c.getParent().getNumVar();
+			for (Tree f : classDefs.get(c).fields) {
+				if (f.tag == Tree.VARDEF) {
+					((Tree.VarDef) f).symbol.setOffset(n++);
+				}
+			}
+			c.setNumVar(n);
+		}
+	}
+
+	/**
+	 * 为一个类的方法中的参数与局部变量编号，成员变量须已编号
+	 */
+	public static void resolveMethods(Tree.ClassDef classDef) {
+		classDef.accept(new ResolveSlots());
+	}
+
+	@Override
+	public void visitClassDef(Tree.ClassDef that) {
+		for (Tree f : that.fields) {
+			if (f.tag == Tree.METHODDEF) {
+				f.accept(this);
+			}
+		}
+	}
+
+	@Override
+	public void visitMethodDef(Tree.MethodDef that) {
+		for (Symbol s : that.symbol.getAssociatedScope()) {
+			((Variable) s).setOffset(s.getOrder());
+		}
+		nextSlot = that.symbol.getType().numOfParams();
+		scan(that.body);
+		that.symbol.setNumSlots(nextSlot);
+	}
+
+	@Override
+	public void visitVarDef(Tree.VarDef that) {
+		that.symbol.setOffset(nextSlot++);
+	}
+
+	@Override
+	public void visitIdent(Tree.Ident that) {
+		super.visitIdent(that);
+		if (that.symbol != null) {
+			that.slot = that.symbol.getOffset();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package decaf.typecheck;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import decaf.tree.Tree;
+import decaf.tree.TreeScanner;
+
+/**
+ * 计算类或方法定义的结构散列（行号相对于base），并收集其中可能指称类的名字
+ */
+final class StructureHasher extends TreeScanner {
+
+	Hasher hasher = new Hasher();
+
+	TreeSet<String> names = new TreeSet<String>();
+
+	private int base;
+
+	StructureHasher(int base) {
+		this.base = base;
+	}
+
+	@Override
+	public void scan(Tree tree) {
+		if (tree == null) {
+			hasher.mix(0);
+			return;
+		}
+		hasher.mix(tree.tag);
+		hasher.mix(tree.getLocation().getLine() - base);
+		hasher.mix(tree.getLocation().getColumn());
+		tree.accept(this);
+	}
+
+	@Override
+	public void scan(List<? extends Tree> trees) {
+		hasher.mix(trees.size());
+		super.scan(trees);
+	}
+
+	@Override
+	public void visitClassDef(Tree.ClassDef that) {
+		hasher.mix(that.name);
+		hasher.mix(that.parent);
+		super.visitClassDef(that);
+	}
+
+	@Override
+	public void visitMethodDef(Tree.MethodDef that) {
+		hasher.mix(that.statik ? 1 : 0);
+		hasher.mix(that.name);
+		super.visitMethodDef(that);
+	}
+
+	@Override
+	public void visitVarDef(Tree.VarDef that) {
+		hasher.mix(that.name);
+		super.visitVarDef(that);
+	}
+
+	@Override
+	public void visitCallExpr(Tree.CallExpr that) {
+		hasher.mix(that.method);
+		super.visitCallExpr(that);
+	}
+
+	@Override
+	public void visitNewClass(Tree.NewClass that) {
+		hasher.mix(that.className);
+		names.add(that.className);
+	}
+
+	@Override
+	public void visitTypeCast(Tree.TypeCast that) {
+		hasher.mix(that.className);
+		names.add(that.className);
+		super.visitTypeCast(that);
+	}
+
+	@Override
+	public void visitTypeTest(Tree.TypeTest that) {
+		hasher.mix(that.className);
+		names.add(that.className);
+		super.visitTypeTest(that);
+	}
+
+	@Override
+	public void visitIdent(Tree.Ident that) {
+		hasher.mix(that.name);
+		if (that.owner == null) {
+			names.add(that.name);
+		}
+		super.visitIdent(that);
+	}
+
+	@Override
+	public void visitLiteral(Tree.Literal that) {
+		hasher.mix(that.typeTag);
+		hasher.mix(String.valueOf(that.value));
+	}
+
+	@Override
+	public void visitTypeIdent(Tree.TypeIdent that) {
+		hasher.mix(that.typeTag);
+	}
+
+	@Override
+	public void visitTypeClass(Tree.TypeClass that) {
+		hasher.mix(that.name);
+		names.add(that.name);
+	}
+}
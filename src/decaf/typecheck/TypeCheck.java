@@ -1,9 +1,15 @@
 package decaf.typecheck;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.Callable;
 
 import decaf.Driver;
 import decaf.Location;
+import decaf.Option;
 import decaf.tree.Tree;
 import decaf.tree.Tree.ThisExpr;
 import decaf.error.BadArgCountError;
@@ -18,6 +24,7 @@ import decaf.error.BadTestExpr;
 import decaf.error.BreakOutOfLoopError;
 import decaf.error.ClassNotFoundError;
 import decaf.error.DecafError;
+import decaf.error.ErrorLimitException;
 import decaf.error.FieldNotAccessError;
 import decaf.error.FieldNotFoundError;
 import decaf.error.IncompatBinOpError;
@@ -31,8 +38,10 @@ import decaf.error.SubNotIntError;
 import decaf.error.ThisInStaticFuncError;
 import decaf.error.UndeclVarError;
 import decaf.frontend.Parser;
+import decaf.jfr.MethodEvent;
 import decaf.scope.ClassScope;
 import decaf.scope.FormalScope;
+import decaf.scope.LocalScope;
 import decaf.scope.Scope;
 import decaf.scope.ScopeStack;
 import decaf.scope.Scope.Kind;
@@ -40,7 +49,9 @@ import decaf.symbol.Class;
 import decaf.symbol.Function;
 import decaf.symbol.Symbol;
 import decaf.symbol.Variable;
+import decaf.tree.TreeScanner;
 import decaf.type.*;
+import decaf.utils.Workers;
 
 public class TypeCheck extends Tree.Visitor {
 
@@ -50,13 +61,232 @@ public class TypeCheck extends Tree.Visitor {
 
 	private Function currentFunction;
 
+	private ClassCache.Session cache;
+
+	private List<DecafError> captured;
+
+	/**
+	 * 不为null时错误只放入其中，由checkParallel按程序顺序交给Driver
+	 */
+	private List<DecafError> buffer;
+
+	/**
+	 * 在并行的任务中：错误放入buffer的同时计数，达到-maxerr时立即中止
+	 */
+	private boolean worker;
+
+	private Incremental.Session incremental;
+
+	/**
+	 * 增量模式下当前方法体依赖的查询，参见Incremental
+	 */
+	private Set<String> deps;
+
+	private List<DecafError> methodErrors;
+
+	/**
+	 * 融合模式下声明方法体中的局部变量，参见checkFused
+	 */
+	private BuildSym declarer;
+
+	/**
+	 * 本检查器发现的错误个数
+	 */
+	private int errorCount;
+
+	/**
+	 * lookupVisible与lookupBeforeLocation的调用次数，供Hotspots统计
+	 */
+	private int visibleLookups;
+
+	private int localLookups;
+
 	public TypeCheck(ScopeStack table) {
 		this.table = table;
 		breaks = new Stack<Tree>();
 	}
 
 	public static void checkType(Tree.TopLevel tree) {
-		new TypeCheck(Driver.getDriver().getTable()).visitTopLevel(tree);
+		Option option = Driver.getDriver().getOption();
+		ClassCache.Session cache = null;
+		if (option.isCacheEnabled()) {
+			cache = ClassCache.getInstance().openSession(tree.globalScope);
+		}
+		Incremental.Session incremental = null;
+		if (option.isIncremental()) {
+			incremental = Incremental.getInstance().openSession(
+					tree.globalScope);
+		}
+		if (option.getThreads() > 1) {
+			checkParallel(tree, cache, incremental, option.getThreads());
+		} else {
+			TypeCheck checker = new TypeCheck(Driver.getDriver().getTable());
+			checker.cache = cache;
+			checker.incremental = incremental;
+			checker.visitTopLevel(tree);
+		}
+		if (incremental != null) {
+			incremental.commit();
+		}
+	}
+
+	/**
+	 * 融合模式：BuildSym.declareSignatures之后只遍历一次方法体，在同一个作用域栈上
+	 * 建立局部作用域、声明局部变量并检查类型。局部变量在声明处才加入作用域，
+	 * 与lookupBeforeLocation跳过其后声明的变量效果相同。分两遍时有声明错误便不做
+	 * 类型检查，因此这里有声明错误时丢弃全部类型错误，输出与分两遍时相同
+	 * 
+	 * @param declarer
+	 *            declareSignatures返回的BuildSym
+	 * @param reportTypes
+	 *            声明阶段没有错误
+	 */
+	public static void checkFused(Tree.TopLevel tree, BuildSym declarer,
+			boolean reportTypes) {
+		List<DecafError> declErrors = new ArrayList<DecafError>();
+		List<DecafError> typeErrors = new ArrayList<DecafError>();
+		declarer.buffer = declErrors;
+		TypeCheck checker = new TypeCheck(Driver.getDriver().getTable());
+		checker.declarer = declarer;
+		checker.buffer = typeErrors;
+		checker.visitTopLevel(tree);
+		for (DecafError error : declErrors) {
+			Driver.getDriver().issueError(error);
+		}
+		if (reportTypes && declErrors.isEmpty()) {
+			for (DecafError error : typeErrors) {
+				Driver.getDriver().issueError(error);
+			}
+		}
+	}
+
+	/**
+	 * 并行检查各个方法体。BuildSym之后类作用域与全局作用域不再改变，
+	 * 每个任务使用自己的作用域栈、检查器与错误缓冲；全部完成后按类与方法在程序中的
+	 * 顺序交出错误，因此checkPoint排序后的输出与顺序检查完全相同。某个任务使错误个数
+	 * 达到-maxerr时其余任务随即停止，交出已找到的错误，由Driver在达到上限时再次抛出
+	 * ErrorLimitException
+	 */
+	private static void checkParallel(Tree.TopLevel program,
+			ClassCache.Session cache, Incremental.Session incremental,
+			int threads) {
+		List<ClassJob> jobs = new ArrayList<ClassJob>();
+		List<MethodTask> tasks = new ArrayList<MethodTask>();
+		for (Tree.ClassDef cd : program.classes) {
+			ClassJob job = new ClassJob(cd);
+			if (cache != null) {
+				job.key = cache.keyOf(cd);
+				if (cache.replay(job.key, cd)) {
+					continue;
+				}
+			}
+			for (Tree f : cd.fields) {
+				if (f.tag == Tree.METHODDEF) {
+					MethodTask task = new MethodTask(program, cd,
+							(Tree.MethodDef) f, incremental);
+					job.methods.add(task);
+					tasks.add(task);
+				}
+			}
+			jobs.add(job);
+		}
+
+		try {
+			Workers.invokeAll(tasks, threads);
+		} catch (ErrorLimitException e) {
+			for (MethodTask task : tasks) {
+				for (DecafError error : task.errors) {
+					Driver.getDriver().issueBuffered(error);
+				}
+			}
+			throw e;
+		}
+
+		for (ClassJob job : jobs) {
+			List<DecafError> errors = new ArrayList<DecafError>();
+			long nanos = 0;
+			for (MethodTask task : job.methods) {
+				errors.addAll(task.errors);
+				nanos += task.nanos;
+			}
+			for (DecafError error : errors) {
+				Driver.getDriver().issueBuffered(error);
+			}
+			if (job.key != null) {
+				cache.store(job.key, job.classDef, errors, nanos);
+			}
+		}
+	}
+
+	private static final class ClassJob {
+
+		private Tree.ClassDef classDef;
+
+		private ClassCache.Key key;
+
+		private List<MethodTask> methods = new ArrayList<MethodTask>();
+
+		ClassJob(Tree.ClassDef classDef) {
+			this.classDef = classDef;
+		}
+	}
+
+	private static final class MethodTask implements Callable<Void> {
+
+		private Tree.TopLevel program;
+
+		private Tree.ClassDef classDef;
+
+		private Tree.MethodDef method;
+
+		private List<DecafError> errors = new ArrayList<DecafError>();
+
+		private long nanos;
+
+		private Incremental.Session incremental;
+
+		MethodTask(Tree.TopLevel program, Tree.ClassDef classDef,
+				Tree.MethodDef method, Incremental.Session incremental) {
+			this.program = program;
+			this.classDef = classDef;
+			this.method = method;
+			this.incremental = incremental;
+		}
+
+		@Override
+		public Void call() {
+			if (Driver.getDriver().isErrorLimitReached()) {
+				return null;
+			}
+			long start = System.nanoTime();
+			checkMethod(program, classDef, method, errors, incremental, null,
+					true);
+			nanos = System.nanoTime() - start;
+			return null;
+		}
+	}
+
+	/**
+	 * 用独立的作用域栈检查一个方法体，错误放入errors。deps不为null时
+	 * 其中记录该方法体依赖的查询（形式同Incremental）。worker表示在并行的任务中
+	 */
+	static void checkMethod(Tree.TopLevel program, Tree.ClassDef classDef,
+			Tree.MethodDef method, List<DecafError> errors,
+			Incremental.Session incremental, Set<String> deps, boolean worker) {
+		ScopeStack table = new ScopeStack();
+		table.open(program.globalScope);
+		table.open(classDef.symbol.getAssociatedScope());
+		TypeCheck checker = new TypeCheck(table);
+		checker.buffer = errors;
+		checker.incremental = incremental;
+		checker.deps = deps;
+		checker.worker = worker;
+		method.accept(checker);
+		if (deps != null) {
+			checker.recordTypes(method);
+		}
+		table.close();
+		table.close();
 	}
 
 	@Override
@@ -216,6 +446,8 @@ public class TypeCheck extends Tree.Visitor {
 	public void visitCallExpr(Tree.CallExpr callExpr) {
 		if (callExpr.receiver == null) {
 			ClassScope cs = (ClassScope) table.lookForScope(Kind.CLASS);
+			dependOnMember(cs, callExpr.method);
+			visibleLookups++;
 			checkCallExpr(callExpr, cs.lookupVisible(callExpr.method));
 			return;
 		}
@@ -250,6 +482,8 @@ public class TypeCheck extends Tree.Visitor {
 
 		ClassScope cs = ((ClassType) callExpr.receiver.type)
 				.getClassScope();
+		dependOnMember(cs, callExpr.method);
+		visibleLookups++;
 		checkCallExpr(callExpr, cs.lookupVisible(callExpr.method));
 	}
 
@@ -268,8 +502,7 @@ public class TypeCheck extends Tree.Visitor {
 			issueError(new BadArrElementError(newArrayExpr.getLocation()));
 			newArrayExpr.type = BaseType.ERROR;
 		} else {
-			newArrayExpr.type = new ArrayType(
-					newArrayExpr.elementType.type);
+			newArrayExpr.type = newArrayExpr.elementType.type.arrayOf();
 		}
 		
 		newArrayExpr.length.accept(this);
@@ -281,7 +514,7 @@ public class TypeCheck extends Tree.Visitor {
 
 	@Override
 	public void visitNewClass(Tree.NewClass newClass) {
-		Class c = table.lookupClass(newClass.className);
+		Class c = lookupClass(newClass.className);
 		newClass.symbol = c;
 		if (c == null) {
 			issueError(new ClassNotFoundError(newClass.getLocation(),
@@ -310,7 +543,7 @@ public class TypeCheck extends Tree.Visitor {
 			issueError(new NotClassError(instanceofExpr.instance.type
 					.toString(), instanceofExpr.getLocation()));
 		}
-		Class c = table.lookupClass(instanceofExpr.className);
+		Class c = lookupClass(instanceofExpr.className);
 		instanceofExpr.symbol = c;
 		instanceofExpr.type = BaseType.BOOL;
 		if (c == null) {
@@ -326,7 +559,7 @@ public class TypeCheck extends Tree.Visitor {
 			issueError(new NotClassError(cast.expr.type.toString(),
 					cast.getLocation()));
 		}
-		Class c = table.lookupClass(cast.className);
+		Class c = lookupClass(cast.className);
 		cast.symbol = c;
 		if (c == null) {
 			issueError(new ClassNotFoundError(cast.getLocation(),
@@ -340,8 +573,18 @@ public class TypeCheck extends Tree.Visitor {
 	@Override
 	public void visitIdent(Tree.Ident ident) {
 		if (ident.owner == null) {
+			localLookups++;
 			Symbol v = table.lookupBeforeLocation(ident.name, ident
 					.getLocation());
+			if (v == null || !(v.getScope().isFormalScope() || v.getScope()
+					.isLocalScope())) {
+				// 结果取决于当前类的成员与全局的类名
+				dependOnMember((ClassScope) table.lookForScope(Kind.CLASS),
+						ident.name);
+				if (deps != null) {
+					deps.add(Incremental.classQuery(ident.name));
+				}
+			}
 			if (v == null) {
 				issueError(new UndeclVarError(ident.getLocation(), ident.name));
 				ident.type = BaseType.ERROR;
@@ -397,6 +640,8 @@ public class TypeCheck extends Tree.Visitor {
 				} else {
 					ClassScope cs = ((ClassType) ident.owner.type)
 							.getClassScope();
+					dependOnMember(cs, ident.name);
+					visibleLookups++;
 					Symbol v = cs.lookupVisible(ident.name);
 					if (v == null) {
 						issueError(new FieldNotFoundError(ident.getLocation(),
@@ -427,19 +672,119 @@ public class TypeCheck extends Tree.Visitor {
 
 	@Override
 	public void visitClassDef(Tree.ClassDef classDef) {
+		ClassCache.Key key = null;
+		if (cache != null) {
+			key = cache.keyOf(classDef);
+			if (cache.replay(key, classDef)) {
+				return;
+			}
+			captured = new ArrayList<DecafError>();
+		}
+		long start = System.nanoTime();
 		table.open(classDef.symbol.getAssociatedScope());
 		for (Tree f : classDef.fields) {
 			f.accept(this);
 		}
 		table.close();
+		if (key != null) {
+			cache.store(key, classDef, captured, System.nanoTime() - start);
+			captured = null;
+		}
 	}
 
 	@Override
 	public void visitMethodDef(Tree.MethodDef func) {
+		MethodEvent event = new MethodEvent();
+		event.begin();
+		int before = errorCount;
+		Hotspots hotspots = Driver.getDriver().getHotspots();
+		long[] start = null;
+		int visible = visibleLookups;
+		int local = localLookups;
+		if (hotspots != null) {
+			start = hotspots.start();
+		}
+		checkBody(func);
+		if (hotspots != null) {
+			hotspots.checked(((ClassScope) table.lookForScope(Kind.CLASS))
+					.getOwner(), func, start, visibleLookups - visible,
+					localLookups - local);
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.className = ((ClassScope) table.lookForScope(Kind.CLASS))
+					.getOwner().getName();
+			event.methodName = func.name;
+			event.nodes = TreeScanner.countNodes(func);
+			event.errors = errorCount - before;
+			event.commit();
+		}
+	}
+
+	private void checkBody(Tree.MethodDef func) {
+		Incremental.Key key = null;
+		if (incremental != null) {
+			Class owner = ((ClassScope) table.lookForScope(Kind.CLASS))
+					.getOwner();
+			key = incremental.keyOf(owner, func);
+			List<DecafError> replayed = incremental.replay(key, func);
+			if (replayed != null) {
+				for (DecafError error : replayed) {
+					issueError(error);
+				}
+				return;
+			}
+			deps = new HashSet<String>();
+			deps.add(Incremental.classQuery(owner.getName()));
+			methodErrors = new ArrayList<DecafError>();
+		}
 		this.currentFunction = func.symbol;
 		table.open(func.symbol.getAssociatedScope());
 		func.body.accept(this);
 		table.close();
+		if (key != null) {
+			recordTypes(func);
+			incremental.store(key, func, deps, methodErrors);
+			deps = null;
+			methodErrors = null;
+		}
+	}
+
+	/**
+	 * 表达式与变量的类型中出现的类，其祖先链决定了类型是否相容，也记入deps
+	 */
+	private void recordTypes(Tree.MethodDef func) {
+		func.accept(new TreeScanner() {
+
+			@Override
+			public void scan(Tree tree) {
+				super.scan(tree);
+				if (tree instanceof Tree.Expr) {
+					Incremental.addClassQueries(deps, ((Tree.Expr) tree).type);
+				}
+			}
+
+			@Override
+			public void visitVarDef(Tree.VarDef that) {
+				if (that.symbol != null) {
+					Incremental.addClassQueries(deps, that.symbol.getType());
+				}
+			}
+
+		});
+	}
+
+	private void dependOnMember(ClassScope cs, String name) {
+		if (deps != null) {
+			deps.add(Incremental.memberQuery(cs.getOwner(), name));
+		}
+	}
+
+	private Class lookupClass(String name) {
+		if (deps != null) {
+			deps.add(Incremental.classQuery(name));
+		}
+		return table.lookupClass(name);
 	}
 
 	@Override
@@ -453,13 +798,29 @@ public class TypeCheck extends Tree.Visitor {
 
 	@Override
 	public void visitBlock(Tree.Block block) {
+		Driver.getDriver().getBudget().check();
+		if (declarer != null) {
+			block.associatedScope = new LocalScope(block.getLocation());
+		}
 		table.open(block.associatedScope);
 		for (Tree s : block.block) {
 			s.accept(this);
+			if (declarer != null && s instanceof Tree.Block) {
+				block.associatedScope
+						.addChild(((Tree.Block) s).associatedScope);
+			}
 		}
 		table.close();
 	}
 
+	@Override
+	public void visitVarDef(Tree.VarDef varDef) {
+		// 成员变量已在声明阶段处理
+		if (declarer != null && table.getCurrentScope().isLocalScope()) {
+			varDef.accept(declarer);
+		}
+	}
+
 	@Override
 	public void visitAssign(Tree.Assign assign) {
 		// Add code here.
@@ -611,7 +972,7 @@ public class TypeCheck extends Tree.Visitor {
 
 	@Override
 	public void visitTypeClass(Tree.TypeClass typeClass) {
-		Class c = table.lookupClass(typeClass.name);
+		Class c = lookupClass(typeClass.name);
 		if (c == null) {
 			issueError(new ClassNotFoundError(typeClass.getLocation(),
 					typeClass.name));
@@ -624,7 +985,7 @@ public class TypeCheck extends Tree.Visitor {
 	@Override
 	public void visitTypeArray(Tree.TypeArray typeArray) {
 		typeArray.elementType.accept(this);
-		typeArray.type = new ArrayType(typeArray.elementType.type);
+		typeArray.type = typeArray.elementType.type.arrayOf();
 		/*
 		Type type = typeArray.elementType.type;
 		if(type == BaseType.ERROR) {
@@ -638,7 +999,21 @@ public class TypeCheck extends Tree.Visitor {
 	}
 
 	private void issueError(DecafError error) {
-		Driver.getDriver().issueError(error);
+		errorCount++;
+		if (captured != null) {
+			captured.add(error);
+		}
+		if (methodErrors != null) {
+			methodErrors.add(error);
+		}
+		if (buffer != null) {
+			buffer.add(error);
+			if (worker) {
+				Driver.getDriver().countBuffered();
+			}
+		} else {
+			Driver.getDriver().issueError(error);
+		}
 	}
 
 	private Type checkBinaryOp(Tree.Expr left, Tree.Expr right, int op, Location location) {
@@ -0,0 +1,77 @@
+package decaf.utils;
+
+import decaf.error.BudgetExceededException;
+
+/**
+ * 一次编译的预算与取消标志<br>
+ * 各遍在开销很小的位置调用check：词法分析每读一个单词以及注释中的每一行、
+ * 字符串中的每个字符，语法分析每做一次归约，
+ * BuildSym与TypeCheck每进入一个语句块。语法分析还在归约时检查嵌套深度，
+ * 使递归的各遍不会在嵌套极深的程序上耗尽栈空间。超出预算或被取消时抛出
+ * BudgetExceededException。可以从其它线程调用cancel
+ */
+public final class Budget {
+
+	private final long start = System.nanoTime();
+
+	private final long timeoutMillis;
+
+	private final int maxNodes;
+
+	private final int maxDepth;
+
+	private int nodes;
+
+	private volatile boolean cancelled;
+
+	/**
+	 * @param timeoutMillis
+	 *            允许的时间（毫秒），不限时为0
+	 * @param maxNodes
+	 *            允许的归约次数，即语法树结点数的上界，不限时为Integer.MAX_VALUE
+	 * @param maxDepth
+	 *            允许的语法树嵌套深度
+	 */
+	public Budget(long timeoutMillis, int maxNodes, int maxDepth) {
+		this.timeoutMillis = timeoutMillis;
+		this.maxNodes = maxNodes;
+		this.maxDepth = maxDepth;
+	}
+
+	public void cancel() {
+		cancelled = true;
+	}
+
+	public void check() {
+		if (cancelled) {
+			throw new BudgetExceededException("compilation cancelled");
+		}
+		if (timeoutMillis > 0
+				&& System.nanoTime() - start > timeoutMillis * 1000000L) {
+			throw new BudgetExceededException(
+					"compilation exceeded the time budget of " + timeoutMillis
+							+ " ms");
+		}
+	}
+
+	/**
+	 * 语法分析每次归约时调用，只在语法分析的线程中使用
+	 */
+	public void countNode() {
+		if (++nodes > maxNodes) {
+			throw new BudgetExceededException("program exceeds the limit of "
+					+ maxNodes + " syntax tree nodes");
+		}
+		check();
+	}
+
+	/**
+	 * 语法分析归约出嵌套深度为depth的语法树时调用
+	 */
+	public void checkDepth(int depth) {
+		if (depth > maxDepth) {
+			throw new BudgetExceededException("program is nested more than "
+					+ maxDepth + " levels deep");
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package decaf.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 经直接缓冲区写入通道的输出流<br>
+ * 缓冲区只分配一次，写满或flush时整块写入通道，使大量的短行（如-l 0输出的语法树）
+ * 只引起少量的系统调用
+ */
+public class ChannelOutputStream extends OutputStream {
+
+	private static final int CAPACITY = 1 << 16;
+
+	private final WritableByteChannel channel;
+
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY);
+
+	public ChannelOutputStream(WritableByteChannel channel) {
+		this.channel = channel;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (!buffer.hasRemaining()) {
+			drain();
+		}
+		buffer.put((byte) b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (!buffer.hasRemaining()) {
+				drain();
+			}
+			int n = Math.min(len, buffer.remaining());
+			buffer.put(b, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		drain();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			drain();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void drain() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
@@ -4,6 +4,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.Arrays;
 
 /**
  * 用于缩进输出的类<br>
@@ -15,7 +16,12 @@ import java.io.Writer;
 public class IndentPrintWriter extends PrintWriter {
 	private int step;
 
-	private StringBuilder indent;
+	private int depth;
+
+	/**
+	 * 至少与当前缩进一样长的空格，每行输出它的前缀，不够时加倍
+	 */
+	private char[] spaces = new char[0];
 
 	private boolean newLineBegin;
 
@@ -38,7 +44,6 @@ public class IndentPrintWriter extends PrintWriter {
 	public IndentPrintWriter(Writer out, int step) {
 		super(out);
 		this.step = step;
-		indent = new StringBuilder();
 		newLineBegin = true;
 	}
 
@@ -46,16 +51,31 @@ public class IndentPrintWriter extends PrintWriter {
 	 * 增加缩进
 	 */
 	public void incIndent() {
-		for (int i = 0; i < step; i++) {
-			indent.append(" ");
-		}
+		depth++;
 	}
 
 	/**
 	 * 减少缩进
 	 */
 	public void decIndent() {
-		indent.setLength(indent.length() - step);
+		depth--;
+	}
+
+	/**
+	 * @return 写入out、缩进与本对象当前相同的新对象。各部分可分别输出，
+	 *         再依次用printBlock拼接
+	 */
+	public IndentPrintWriter fork(Writer out) {
+		IndentPrintWriter w = new IndentPrintWriter(out, step);
+		w.depth = depth;
+		return w;
+	}
+
+	/**
+	 * 原样输出已经缩进好的若干整行，须在行首调用
+	 */
+	public void printBlock(String lines) {
+		super.write(lines, 0, lines.length());
 	}
 
 	@Override
@@ -67,8 +87,18 @@ public class IndentPrintWriter extends PrintWriter {
 	private void writeIndent() {
 		if (newLineBegin) {
 			newLineBegin = false;
-			print(indent);
+			if (depth > 0) {
+				super.write(spaces(depth * step), 0, depth * step);
+			}
+		}
+	}
+
+	private char[] spaces(int n) {
+		if (n > spaces.length) {
+			spaces = new char[Math.max(n, spaces.length * 2)];
+			Arrays.fill(spaces, ' ');
 		}
+		return spaces;
 	}
 
 	@Override
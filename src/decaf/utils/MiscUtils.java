@@ -9,6 +9,17 @@ public final class MiscUtils {
 	 * @return 带转义符的字符串（并加上双引号）
 	 */
 	public static String quote(String str) {
+		return quote(str, false);
+	}
+
+	/**
+	 * 同quote，另把其它控制字符写为四位十六进制的Unicode转义，结果是合法的JSON字符串
+	 */
+	public static String quoteJson(String str) {
+		return quote(str, true);
+	}
+
+	private static String quote(String str, boolean json) {
 		StringBuilder sb = new StringBuilder();
 		for (int i = 0; i < str.length(); ++i) {
 			char c = str.charAt(i);
@@ -26,7 +37,11 @@ public final class MiscUtils {
 				sb.append("\\\\");
 				break;
 			default:
-				sb.append(c);
+				if (json && c < 0x20) {
+					sb.append(String.format("\\u%04x", (int) c));
+				} else {
+					sb.append(c);
+				}
 			}
 		}
 		return ('"' + sb.toString() + '"');
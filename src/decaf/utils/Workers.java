@@ -0,0 +1,48 @@
+package decaf.utils;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 各遍共用的线程池，线程数由第一次调用决定
+ */
+public final class Workers {
+
+	private static ForkJoinPool pool;
+
+	private Workers() {
+	}
+
+	private static synchronized ForkJoinPool getPool(int threads) {
+		if (pool == null) {
+			pool = new ForkJoinPool(threads);
+		}
+		return pool;
+	}
+
+	/**
+	 * 执行全部任务并等待完成。任务抛出的运行时异常原样抛出
+	 */
+	public static void invokeAll(List<? extends Callable<Void>> tasks,
+			int threads) {
+		try {
+			for (Future<Void> f : getPool(threads).invokeAll(tasks)) {
+				f.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}